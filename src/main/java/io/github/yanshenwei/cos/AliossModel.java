@@ -1,7 +1,11 @@
 package io.github.yanshenwei.cos;
 
+import com.aliyun.oss.ClientBuilderConfiguration;
+import com.aliyun.oss.ClientException;
 import com.aliyun.oss.OSS;
 import com.aliyun.oss.OSSClientBuilder;
+import com.aliyun.oss.OSSErrorCode;
+import com.aliyun.oss.OSSException;
 import com.aliyun.oss.internal.OSSHeaders;
 import com.aliyun.oss.model.*;
 import io.github.yanshenwei.cos.config.CosConstants;
@@ -11,11 +15,28 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
 
 /**********************************
  * @Author YSW
@@ -25,10 +46,16 @@ import java.util.Objects;
 
 @Component
 @ConditionalOnProperty(prefix = "cos.oss", name = "enable", havingValue = "true")
-public class AliossModel implements ObjectCloudStorage {
+public class AliossModel implements CosStorage {
 
     private static final Logger log = LoggerFactory.getLogger(AliossModel.class);
 
+    private static final String FORBID_OVERWRITE = "x-oss-forbid-overwrite";
+
+    private static final String RANGE_BEHAVIOR = "x-oss-range-behavior";
+
+    private static final String INVALID_RANGE = "InvalidRange";
+
     @Resource
     private CosConstants.AliossConfig aliossConfig;
 
@@ -40,6 +67,16 @@ public class AliossModel implements ObjectCloudStorage {
 
     private String objectPrefix;
 
+    private OSS ossClient;
+
+    private ExecutorService partExecutor;
+
+    private MultipartUploader multipartUploader;
+
+    private RangeDownloader rangeDownloader;
+
+    private ExecutorService asyncExecutor;
+
     @PostConstruct
     private void init() {
         final String objectDirPrefix = aliossConfig.getObjectDirPrefix();
@@ -60,152 +97,204 @@ public class AliossModel implements ObjectCloudStorage {
         bucket = aliossConfig.getBucket();
         resourceHost = aliossConfig.getResourceHost();
         endpoint = aliossConfig.getEndpoint();
+        final ClientBuilderConfiguration configuration = new ClientBuilderConfiguration();
+        configuration.setMaxConnections(aliossConfig.getMaxConnections());
+        configuration.setSocketTimeout(aliossConfig.getSocketTimeout());
+        configuration.setConnectionTimeout(aliossConfig.getConnectionTimeout());
+        configuration.setConnectionRequestTimeout(aliossConfig.getConnectionRequestTimeout());
+        configuration.setIdleConnectionTime(aliossConfig.getIdleConnectionTime());
+        configuration.setConnectionTTL(aliossConfig.getConnectionTtl());
+        ossClient = new OSSClientBuilder().build(
+                aliossConfig.getEndpoint(),
+                aliossConfig.getAccessKeyId(),
+                aliossConfig.getAccessKeySecret(),
+                configuration
+        );
+        partExecutor = AsyncSupport.newPartExecutor(aliossConfig.getPartConcurrency(), "oss-part-",
+                aliossConfig.isVirtualThreads(), aliossConfig.getVirtualThreadPermits());
+        final int partSize = MultipartUploader.checkPartSize(aliossConfig.getPartSize(), "oss");
+        multipartUploader = new MultipartUploader(new OssPartTarget(), partExecutor,
+                partSize, aliossConfig.getPartConcurrency());
+        rangeDownloader = new RangeDownloader(this::openRange, partExecutor,
+                partSize, aliossConfig.getPartConcurrency());
+        asyncExecutor = AsyncSupport.newAsyncExecutor(aliossConfig.getAsyncThreads(),
+                aliossConfig.getAsyncQueueCapacity(), "oss-async-",
+                aliossConfig.isVirtualThreads(), aliossConfig.getVirtualThreadPermits());
+        final String checkpointDir = aliossConfig.getCheckpointDir();
+        if (checkpointDir != null && checkpointDir.trim().length() > 0) {
+            multipartUploader.enableCheckpoint(checkpointDir, aliossConfig.getCheckpointTtl(), "oss");
+            partExecutor.execute(multipartUploader::cleanExpiredCheckpoints);
+        }
         if (!isBucketExists(bucket)) {
             createBucket(bucket);
         }
     }
 
+    @PreDestroy
+    private void destroy() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+        }
+        if (partExecutor != null) {
+            partExecutor.shutdownNow();
+        }
+        if (ossClient != null) {
+            ossClient.shutdown();
+            log.debug("oss client 已关闭");
+        }
+    }
+
+    MultipartUploader getMultipartUploader() {
+        return multipartUploader;
+    }
+
+    ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * 获取共享的 OSS 客户端(线程安全, 容器关闭时释放)
+     *
+     * @return OSS 客户端
+     */
     public OSS getOss() {
-        return new OSSClientBuilder().build(
-                aliossConfig.getEndpoint(),
-                aliossConfig.getAccessKeyId(),
-                aliossConfig.getAccessKeySecret()
-        );
+        return this.ossClient;
     }
 
     @Override
     public boolean putObject(String objectPath, File file) {
-        OSS oss = getOss();
+        return putObject(objectPath, file, PutCondition.ifAbsent());
+    }
+
+    @Override
+    public boolean putObject(String objectPath, File file, PutCondition condition) {
         String path = getFormatObjectPath(objectPath);
-        if (!oss.doesObjectExist(bucket, path)) {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, file);
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setHeader(OSSHeaders.CONTENT_TYPE, "application/octet-stream");
-            putObjectRequest.setMetadata(metadata);
-            oss.putObject(putObjectRequest);
-            oss.shutdown();
-            log.debug("对象 [" + path + "] 上传成功");
-            return true;
-        } else {
-            log.error("对象 [" + path + "] 已存在");
-            oss.shutdown();
-            return false;
+        if (file.length() >= aliossConfig.getMultipartThreshold()) {
+            try {
+                return multipartUploader.uploadFile(path, file, "application/octet-stream", condition);
+            } catch (Exception e) {
+                log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
+                return false;
+            }
         }
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, file);
+        return doPutObject(putObjectRequest, "application/octet-stream", condition);
     }
 
     @Override
     public boolean putObject(String objectPath, InputStream inputStream, String contentType) {
-        OSS oss = getOss();
+        return putObject(objectPath, inputStream, contentType, PutCondition.ifAbsent());
+    }
+
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
         String path = getFormatObjectPath(objectPath);
-        if (!oss.doesObjectExist(bucket, path)) {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, inputStream);
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setHeader(OSSHeaders.CONTENT_TYPE, contentType == null ? "application/octet-stream" : contentType);
-            putObjectRequest.setMetadata(metadata);
-            oss.putObject(putObjectRequest);
-            oss.shutdown();
-            return true;
-        } else {
-            log.error("对象 [" + path + "] 已存在");
-            oss.shutdown();
+        try {
+            return multipartUploader.upload(path, inputStream, contentType, condition);
+        } catch (Exception e) {
+            log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
             return false;
         }
     }
 
     @Override
     public boolean putObject(String objectPath, byte[] content) {
-        OSS oss = getOss();
-        String path = getFormatObjectPath(objectPath);
-        if (!oss.doesObjectExist(bucket, path)) {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, new ByteArrayInputStream(content));
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setHeader(OSSHeaders.CONTENT_TYPE, "application/octet-stream");
-            putObjectRequest.setMetadata(metadata);
-            oss.putObject(putObjectRequest);
-            oss.shutdown();
-            return true;
-        } else {
-            log.error("对象 [" + path + "] 已存在");
-            oss.shutdown();
-            return false;
-        }
+        return putObject(objectPath, content, "application/octet-stream", PutCondition.ifAbsent());
     }
 
     @Override
     public boolean putObject(String objectPath, byte[] content, String contentType) {
-        OSS oss = getOss();
+        return putObject(objectPath, content, contentType, PutCondition.ifAbsent());
+    }
+
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
         String path = getFormatObjectPath(objectPath);
-        if (!oss.doesObjectExist(bucket, path)) {
-            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, new ByteArrayInputStream(content));
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setHeader(OSSHeaders.CONTENT_TYPE, contentType);
-            putObjectRequest.setMetadata(metadata);
-            oss.putObject(putObjectRequest);
-            oss.shutdown();
-            return true;
-        } else {
-            log.error("对象 [" + path + "] 已存在");
-            oss.shutdown();
-            return false;
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, new ByteArrayInputStream(content));
+        return doPutObject(putObjectRequest, contentType, condition);
+    }
+
+    /**
+     * 单次请求上传, 覆盖判断交由服务端完成 (409 FileAlreadyExists / 412 PreconditionFailed 视为条件不满足)
+     *
+     * @param putObjectRequest 上传请求
+     * @param contentType      对象头类型
+     * @param condition        覆盖策略
+     * @return 操作结果
+     */
+    private boolean doPutObject(PutObjectRequest putObjectRequest, String contentType, PutCondition condition) {
+        final String path = putObjectRequest.getKey();
+        putObjectRequest.setMetadata(conditionMetadata(contentType, condition));
+        try {
+            getOss().putObject(putObjectRequest);
+        } catch (OSSException e) {
+            if (isConditionFailed(path, e)) {
+                return false;
+            }
+            throw e;
         }
+        log.debug("对象 [" + path + "] 上传成功");
+        return true;
     }
 
     @Override
     public boolean pudAppendableObject(String objectPath, byte[] content) {
-        OSS oss = getOss();
         String path = getFormatObjectPath(objectPath);
-        if (!oss.doesObjectExist(bucket, path)) {
-            AppendObjectRequest appendObjectRequest = new AppendObjectRequest(bucket, path, new ByteArrayInputStream(content));
-            appendObjectRequest.setPosition(0L);
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setHeader(OSSHeaders.CONTENT_TYPE, "application/octet-stream");
-            appendObjectRequest.setMetadata(metadata);
-            boolean isSuccessful = oss.appendObject(appendObjectRequest).getResponse().isSuccessful();
-            oss.shutdown();
-            if (!isSuccessful) {
-                log.error("对象 [" + path + "] 上传失败");
-            } else {
-                log.debug("对象 [" + path + "] 上传成功");
+        AppendObjectRequest appendObjectRequest = new AppendObjectRequest(bucket, path, new ByteArrayInputStream(content));
+        appendObjectRequest.setPosition(0L);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader(OSSHeaders.CONTENT_TYPE, "application/octet-stream");
+        appendObjectRequest.setMetadata(metadata);
+        final boolean isSuccessful;
+        try {
+            isSuccessful = getOss().appendObject(appendObjectRequest).getResponse().isSuccessful();
+        } catch (OSSException e) {
+            // 位置 0 追加失败即对象已存在(非空可追加对象或普通对象)
+            if (OSSErrorCode.POSITION_NOT_EQUAL_TO_LENGTH.equals(e.getErrorCode())
+                    || OSSErrorCode.OBJECT_NOT_APPENDALBE.equals(e.getErrorCode())) {
+                log.error("对象 [" + path + "] 已存在");
+                return false;
             }
-            return isSuccessful;
+            throw e;
+        }
+        if (!isSuccessful) {
+            log.error("对象 [" + path + "] 上传失败");
         } else {
-            log.error("对象 [" + path + "] 已存在");
-            oss.shutdown();
-            return false;
+            log.debug("对象 [" + path + "] 上传成功");
         }
+        return isSuccessful;
     }
 
     @Override
     public boolean appendObject(String objectPath, byte[] content) {
         OSS oss = getOss();
         String path = getFormatObjectPath(objectPath);
-        if (oss.doesObjectExist(bucket, path)) {
-            HeadObjectRequest request = new HeadObjectRequest(bucket, path);
-            String objectType = oss.headObject(request).getObjectType();
-            //noinspection AlibabaUndefineMagicConstant
-            if ("Appendable".equals(objectType)) {
-                AppendObjectRequest appendObjectRequest = new AppendObjectRequest(bucket, path, new ByteArrayInputStream(content));
-                long contentLength = oss.headObject(request).getContentLength();
-                appendObjectRequest.setPosition(contentLength);
-                appendObjectRequest.setInputStream(new ByteArrayInputStream(content));
-                boolean isSuccessful = oss.appendObject(appendObjectRequest).getResponse().isSuccessful();
-                oss.shutdown();
-                if (!isSuccessful) {
-                    log.error("对象 [" + path + "] 追加上传失败");
-                } else {
-                    log.debug("对象 [" + path + "] 追加上传成功 AppendLength  -> " + content.length);
-                }
-                return isSuccessful;
+        final ObjectMetadata objectMetadata;
+        try {
+            objectMetadata = oss.headObject(new HeadObjectRequest(bucket, path));
+        } catch (OSSException e) {
+            if (OSSErrorCode.NO_SUCH_KEY.equals(e.getErrorCode())) {
+                log.error("对象 [" + path + "] 不存在");
+                return false;
+            }
+            throw e;
+        }
+        String objectType = objectMetadata.getObjectType();
+        //noinspection AlibabaUndefineMagicConstant
+        if ("Appendable".equals(objectType)) {
+            AppendObjectRequest appendObjectRequest = new AppendObjectRequest(bucket, path, new ByteArrayInputStream(content));
+            appendObjectRequest.setPosition(objectMetadata.getContentLength());
+            boolean isSuccessful = oss.appendObject(appendObjectRequest).getResponse().isSuccessful();
+            if (!isSuccessful) {
+                log.error("对象 [" + path + "] 追加上传失败");
             } else {
-                log.error("对象 [" + path + "] 类型错误 " + objectType + " ,追加失败");
+                log.debug("对象 [" + path + "] 追加上传成功 AppendLength  -> " + content.length);
             }
-            oss.shutdown();
-            return true;
+            return isSuccessful;
         } else {
-            log.error("对象 [" + path + "] 不存在");
-            oss.shutdown();
-            return false;
+            log.error("对象 [" + path + "] 类型错误 " + objectType + " ,追加失败");
         }
+        return true;
     }
 
     @Override
@@ -223,34 +312,31 @@ public class AliossModel implements ObjectCloudStorage {
      */
     @Override
     public boolean copyObject(String sourceObjectPath, String targetObjectPath, boolean isCover) {
-        OSS oss = getOss();
         if (Objects.isNull(targetObjectPath) || targetObjectPath.length() < 1) {
             log.error("目标对象名称错误");
             return false;
         }
         String sourcePath = getFormatObjectPath(sourceObjectPath);
         String targetPath = getFormatObjectPath(targetObjectPath);
-        if (!oss.doesObjectExist(bucket, sourcePath)) {
-            log.error("源对象 [" + sourcePath + "] 不存在");
-            return false;
+        CopyObjectRequest copyObjectRequest = new CopyObjectRequest(bucket, sourcePath, bucket, targetPath);
+        if (!isCover) {
+            copyObjectRequest.addHeader(FORBID_OVERWRITE, "true");
         }
-        if (isCover) {
-            oss.copyObject(bucket, sourcePath, bucket, targetPath);
-            oss.shutdown();
-            log.debug("源对象 [" + sourcePath + "] -> " + "目标对象 [" + targetPath + "] 复制成功");
-            return true;
-        } else {
-            if (!oss.doesObjectExist(bucket, targetPath)) {
-                oss.copyObject(bucket, sourcePath, bucket, targetPath);
-                oss.shutdown();
-                log.debug("源对象 [" + sourcePath + "] -> " + "目标对象 [" + targetPath + "] 复制成功");
-                return true;
-            } else {
+        try {
+            getOss().copyObject(copyObjectRequest);
+        } catch (OSSException e) {
+            if (OSSErrorCode.NO_SUCH_KEY.equals(e.getErrorCode())) {
+                log.error("源对象 [" + sourcePath + "] 不存在");
+                return false;
+            }
+            if (OSSErrorCode.FILE_ALREADY_EXISTS.equals(e.getErrorCode())) {
                 log.error("目标对象 [" + targetPath + "] 已存在");
-                oss.shutdown();
                 return false;
             }
+            throw e;
         }
+        log.debug("源对象 [" + sourcePath + "] -> " + "目标对象 [" + targetPath + "] 复制成功");
+        return true;
     }
 
     @Override
@@ -262,30 +348,163 @@ public class AliossModel implements ObjectCloudStorage {
         if (objectPath.startsWith("/")){
             objectPath = objectPath.substring(1);
         }
-        OSS oss = getOss();
         String path = getFormatObjectPath(objectPath);
-        if (path.startsWith("/")){
-            path = path.substring(1);
+        return doGetObject(new GetObjectRequest(bucket, path));
+    }
+
+    /**
+     * 对象范围获取
+     *
+     * @param objectPath 对象存储路径
+     * @param offset     起始位置
+     * @param length     读取长度, 小于 0 时读取到对象末尾
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObject(String objectPath, long offset, long length) {
+        if (objectPath == null || objectPath.length() == 0 || offset < 0 || length == 0) {
+            return null;
         }
-        if (oss.doesObjectExist(bucket, path)) {
-            if (path.startsWith("/")){
-                path = path.substring(1);
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucket, getFormatObjectPath(objectPath));
+        getObjectRequest.setRange(offset, length > 0 ? offset + length - 1 : -1);
+        return doGetObject(getObjectRequest);
+    }
+
+    /**
+     * 对象末尾范围获取
+     *
+     * @param objectPath   对象存储路径
+     * @param suffixLength 读取对象最后 suffixLength 个字节
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        if (objectPath == null || objectPath.length() == 0 || suffixLength <= 0) {
+            return null;
+        }
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucket, getFormatObjectPath(objectPath));
+        getObjectRequest.setRange(-1, suffixLength);
+        return doGetObject(getObjectRequest);
+    }
+
+    private CosObject doGetObject(GetObjectRequest getObjectRequest) {
+        final String path = getObjectRequest.getKey();
+        if (getObjectRequest.getRange() != null) {
+            // 范围不合法时返回 416, 而不是默认的返回完整对象
+            getObjectRequest.addHeader(RANGE_BEHAVIOR, "standard");
+        }
+        final OSSObject object;
+        try {
+            object = getOss().getObject(getObjectRequest);
+        } catch (OSSException e) {
+            if (OSSErrorCode.NO_SUCH_KEY.equals(e.getErrorCode())) {
+                log.error("对象 [" + path + "] 不存在");
+                return null;
             }
-            final OSSObject object = oss.getObject(bucket, path);
-            final CosObject cosObject = new CosObject();
-            cosObject.setInputStream(object.getObjectContent());
-            cosObject.setPath(path);
-            cosObject.setContentLength(object.getObjectMetadata().getContentLength());
-            cosObject.setContentType(object.getObjectMetadata().getContentType());
-            log.debug("对象 [" + path + "] 获取成功");
-            return cosObject;
-        } else {
-            log.error("对象 [" + path + "] 不存在");
-            oss.shutdown();
+            if (INVALID_RANGE.equals(e.getErrorCode())) {
+                log.error("对象 [" + path + "] 读取范围错误");
+                return null;
+            }
+            throw e;
+        }
+        final CosObject cosObject = new CosObject();
+        cosObject.setInputStream(object.getObjectContent());
+        cosObject.setPath(path);
+        cosObject.setContentLength(object.getObjectMetadata().getContentLength());
+        cosObject.setContentType(object.getObjectMetadata().getContentType());
+        cosObject.setEtag(object.getObjectMetadata().getETag());
+        final Object contentRange = object.getObjectMetadata().getRawMetadata().get("Content-Range");
+        cosObject.applyContentRange(contentRange != null ? contentRange.toString() : null);
+        log.debug("对象 [" + path + "] 获取成功");
+        return cosObject;
+    }
+
+
+    /**
+     * 对象元数据获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 对象元数据, 对象不存在时返回 null
+     */
+    @Override
+    public CosObject statObject(String objectPath) {
+        if (objectPath == null || objectPath.length() == 0) {
             return null;
         }
+        String path = getFormatObjectPath(objectPath);
+        final ObjectMetadata metadata;
+        try {
+            metadata = getOss().getObjectMetadata(bucket, path);
+        } catch (OSSException e) {
+            if (OSSErrorCode.NO_SUCH_KEY.equals(e.getErrorCode())) {
+                log.error("对象 [" + path + "] 不存在");
+                return null;
+            }
+            throw e;
+        }
+        final CosObject cosObject = new CosObject();
+        cosObject.setPath(path);
+        cosObject.setContentLength(metadata.getContentLength());
+        cosObject.setTotalLength(metadata.getContentLength());
+        cosObject.setContentType(metadata.getContentType());
+        cosObject.setEtag(metadata.getETag());
+        return cosObject;
     }
 
+    /**
+     * 多连接分段下载对象到本地文件
+     *
+     * @param objectPath 对象存储路径
+     * @param target     本地目标文件
+     * @return 操作结果
+     */
+    @Override
+    public boolean downloadToFile(String objectPath, Path target) {
+        final CosObject stat = statObject(objectPath);
+        if (stat == null) {
+            return false;
+        }
+        try {
+            rangeDownloader.download(stat.getPath(), stat.getContentLength(), stat.getEtag(), target);
+            log.debug("对象 [" + stat.getPath() + "] 下载成功 -> " + target);
+            return true;
+        } catch (Exception e) {
+            log.error("对象 [" + stat.getPath() + "] 下载异常 " + e.getMessage());
+            return false;
+        }
+    }
+
+    private InputStream openRange(String path, long start, long end, String etag) {
+        GetObjectRequest getObjectRequest = new GetObjectRequest(bucket, path);
+        getObjectRequest.setRange(start, end);
+        getObjectRequest.addHeader(RANGE_BEHAVIOR, "standard");
+        getObjectRequest.setMatchingETagConstraints(Collections.singletonList(etag));
+        return getOss().getObject(getObjectRequest).getObjectContent();
+    }
+
+    /**
+     * 对象内容写入通道
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标通道
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    /**
+     * 对象内容写入输出流
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标输出流
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
 
     /**
      * 获取对象(通过对象资源地址)
@@ -311,20 +530,132 @@ public class AliossModel implements ObjectCloudStorage {
         return null;
     }
 
+    /**
+     * 对象删除, 删除是幂等的: 对象不存在时同样返回 true (与 minio 一致, 不再额外检查是否存在),
+     * 请求失败时返回 false
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
     @Override
     public boolean deleteObject(String objectPath) {
-        OSS oss = getOss();
         String path = getFormatObjectPath(objectPath);
-        if (oss.doesObjectExist(bucket, path)) {
-            oss.deleteObject(bucket, path);
-            oss.shutdown();
-            log.debug("对象 [" + path + "] 已删除");
-            return true;
-        } else {
-            log.error("对象 [" + path + "] 不存在");
-            oss.shutdown();
+        try {
+            getOss().deleteObject(bucket, path);
+        } catch (OSSException | ClientException e) {
+            log.error("对象 [" + path + "] 删除失败 " + e.getMessage());
             return false;
         }
+        log.debug("对象 [" + path + "] 已删除");
+        return true;
+    }
+
+    /**
+     * 批量删除对象, 每批 1000 个以 DeleteObjectsRequest 删除, 各批在分片线程池中并发执行
+     *
+     * @param objectPaths 对象存储路径
+     * @return 删除结果
+     */
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        final BatchDeleteResult result = BatchDeleter.delete(objectPaths, this::getFormatObjectPath,
+                this::doDeleteObjects, partExecutor, aliossConfig.getPartConcurrency());
+        if (!result.isSuccess()) {
+            log.error("批量删除 " + result.getFailures().size() + " 个对象失败");
+        }
+        return result;
+    }
+
+    private Map<String, String> doDeleteObjects(List<String> paths) {
+        // 非静默模式返回已删除的对象, 未在其中的视为失败
+        final DeleteObjectsResult deleteResult = getOss().deleteObjects(
+                new DeleteObjectsRequest(bucket).withKeys(paths).withQuiet(false));
+        final Set<String> deleted = new HashSet<>(deleteResult.getDeletedObjects());
+        final Map<String, String> failures = new LinkedHashMap<>();
+        paths.stream().filter(path -> !deleted.contains(path)).forEach(path -> failures.put(path, "未确认删除"));
+        log.debug("批量删除 " + paths.size() + " 个对象, 失败 " + failures.size() + " 个");
+        return failures;
+    }
+
+    /**
+     * 列举对象, 以 ListObjectsV2 按页请求, 启用 list-prefetch 时在异步线程池中预取下一页
+     *
+     * @param prefix    路径前缀
+     * @param delimiter 分隔符, 为空时递归列举
+     * @return 对象条目流
+     */
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        final String root = getFormatObjectPath("");
+        final String listPrefix = getFormatObjectPath(prefix == null ? "" : prefix);
+        final String listDelimiter = delimiter == null || delimiter.isEmpty() ? null : delimiter;
+        final int pageSize = Math.max(1, Math.min(1000, aliossConfig.getListPageSize()));
+        return ObjectLister.stream(token -> {
+            final ListObjectsV2Request request = new ListObjectsV2Request(bucket)
+                    .withPrefix(listPrefix)
+                    .withDelimiter(listDelimiter)
+                    .withMaxKeys(pageSize)
+                    .withContinuationToken(token);
+            final ListObjectsV2Result result;
+            try {
+                result = getOss().listObjectsV2(request);
+            } catch (OSSException | ClientException e) {
+                log.error("前缀 [" + listPrefix + "] 列举失败 " + e.getMessage());
+                throw e;
+            }
+            final List<CosObjectSummary> objects = new ArrayList<>(result.getObjectSummaries().size());
+            for (OSSObjectSummary objectSummary : result.getObjectSummaries()) {
+                final CosObjectSummary summary = new CosObjectSummary();
+                summary.setPath(ObjectLister.relativize(root, objectSummary.getKey()));
+                summary.setSize(objectSummary.getSize());
+                summary.setEtag(ObjectLister.etag(objectSummary.getETag()));
+                summary.setLastModified(objectSummary.getLastModified());
+                objects.add(summary);
+            }
+            final List<CosObjectSummary> directories = new ArrayList<>(result.getCommonPrefixes().size());
+            for (String commonPrefix : result.getCommonPrefixes()) {
+                directories.add(ObjectLister.directory(ObjectLister.relativize(root, commonPrefix)));
+            }
+            log.debug("前缀 [" + listPrefix + "] 列举 " + (objects.size() + directories.size()) + " 个条目");
+            return new ObjectLister.Page(objects, directories,
+                    result.isTruncated() ? result.getNextContinuationToken() : null);
+        }, aliossConfig.isListPrefetch() ? asyncExecutor : null);
+    }
+
+    /**
+     * 复制前缀下的全部对象, 边列举边在异步线程池中并发执行服务端复制
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 复制结果
+     */
+    @Override
+    public PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, false, asyncExecutor,
+                copyConcurrency());
+    }
+
+    /**
+     * 移动前缀下的全部对象, 复制成功的源对象每 1000 个批量删除一次
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 移动结果
+     */
+    @Override
+    public PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, true, asyncExecutor,
+                copyConcurrency());
+    }
+
+    /**
+     * 前缀复制的并发数, 不超过异步线程池的线程数或虚拟线程许可数
+     */
+    private int copyConcurrency() {
+        return Math.min(aliossConfig.getCopyConcurrency(),
+                aliossConfig.isVirtualThreads() ? aliossConfig.getVirtualThreadPermits() : aliossConfig.getAsyncThreads());
     }
 
     /**
@@ -340,10 +671,94 @@ public class AliossModel implements ObjectCloudStorage {
         }
         OSS oss = getOss();
         boolean exist = oss.doesObjectExist(bucket, getFormatObjectPath(objectPath));
-        oss.shutdown();
         return exist;
     }
 
+    /**
+     * 异步上传对象, oss 无原生异步接口, 在异步线程池中执行
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, file), false);
+    }
+
+    /**
+     * 异步上传流对象
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, inputStream, contentType), false);
+    }
+
+    /**
+     * 异步上传字节数组对象
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, content, contentType), false);
+    }
+
+    /**
+     * 异步对象复制
+     *
+     * @param sourceObjectPath 源对象路径名称
+     * @param targetObjectPath 目标对象路径名称
+     * @param isCover          是否覆盖
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> copyObjectAsync(String sourceObjectPath, String targetObjectPath, boolean isCover) {
+        return AsyncSupport.supply(asyncExecutor,
+                () -> copyObject(sourceObjectPath, targetObjectPath, isCover), false);
+    }
+
+    /**
+     * 异步对象获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        return AsyncSupport.supply(asyncExecutor, () -> getObject(objectPath), null);
+    }
+
+    /**
+     * 异步对象删除
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        return AsyncSupport.supply(asyncExecutor, () -> deleteObject(objectPath), false);
+    }
+
+    /**
+     * 异步判断对象是否存在
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        return AsyncSupport.supply(asyncExecutor, () -> isObjectExist(objectPath), false);
+    }
+
     /**
      * 获取对象 url
      * @param objectPath 对象路径
@@ -381,7 +796,6 @@ public class AliossModel implements ObjectCloudStorage {
         if (exist){
             log.debug("bucket ["+bucketName+"] 已存在");
         }
-        oss.shutdown();
         return exist;
     }
 
@@ -392,11 +806,10 @@ public class AliossModel implements ObjectCloudStorage {
         createBucketRequest.setEndpoint(endpoint);
         createBucketRequest.setCannedACL(CannedAccessControlList.PublicRead);
         oss.createBucket(createBucketRequest);
-        oss.shutdown();
         return true;
     }
 
-    private String getFormatObjectPath(String objectPath){
+    String getFormatObjectPath(String objectPath) {
         String path = (objectPrefix + objectPath).replaceAll("/+", "/");
         if (path.startsWith("/")){
             path = path.substring(1);
@@ -404,10 +817,118 @@ public class AliossModel implements ObjectCloudStorage {
         return path;
     }
 
+    private ObjectMetadata conditionMetadata(String contentType, PutCondition condition) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setHeader(OSSHeaders.CONTENT_TYPE, contentType == null ? "application/octet-stream" : contentType);
+        if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_ABSENT) {
+            metadata.setHeader(FORBID_OVERWRITE, "true");
+        } else if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_MATCH) {
+            metadata.setHeader(OSSHeaders.GET_OBJECT_IF_MATCH, condition.getEtag());
+        }
+        return metadata;
+    }
+
+    /**
+     * 覆盖条件不满足 (409 FileAlreadyExists / 412 PreconditionFailed)
+     */
+    private boolean isConditionFailed(String path, OSSException e) {
+        if (OSSErrorCode.FILE_ALREADY_EXISTS.equals(e.getErrorCode())) {
+            log.error("对象 [" + path + "] 已存在");
+            return true;
+        }
+        if (OSSErrorCode.PRECONDITION_FAILED.equals(e.getErrorCode())) {
+            log.error("对象 [" + path + "] ETag 不匹配");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * oss 分片上传实现
+     */
+    private class OssPartTarget implements MultipartUploader.Target {
+
+        @Override
+        public boolean putSingle(String path, byte[] data, int length, String contentType, PutCondition condition) {
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, path, new ByteArrayInputStream(data, 0, length));
+            return doPutObject(putObjectRequest, contentType, condition);
+        }
+
+        /**
+         * oss 合并分片(CompleteMultipartUpload)只支持 x-oss-forbid-overwrite, 不支持 If-Match,
+         * IF_MATCH 条件在上传分片前直接拒绝, 不会在不满足条件时覆盖对象
+         */
+        @Override
+        public String initiate(String path, String contentType, PutCondition condition) throws IOException {
+            if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_MATCH) {
+                throw new IOException("oss 分片上传不支持 If-Match 条件");
+            }
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setHeader(OSSHeaders.CONTENT_TYPE, contentType == null ? "application/octet-stream" : contentType);
+            if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_ABSENT) {
+                // 对象已存在时在上传分片前失败
+                metadata.setHeader(FORBID_OVERWRITE, "true");
+            }
+            final String uploadId;
+            try {
+                uploadId = getOss().initiateMultipartUpload(
+                        new InitiateMultipartUploadRequest(bucket, path, metadata)).getUploadId();
+            } catch (OSSException e) {
+                if (isConditionFailed(path, e)) {
+                    throw new IOException("对象 [" + path + "] 已存在");
+                }
+                throw e;
+            }
+            return uploadId;
+        }
+
+        @Override
+        public String uploadPart(String path, String uploadId, int partNumber, byte[] data, int length) {
+            UploadPartRequest uploadPartRequest = new UploadPartRequest(
+                    bucket, path, uploadId, partNumber, new ByteArrayInputStream(data, 0, length), length);
+            return getOss().uploadPart(uploadPartRequest).getETag();
+        }
+
+        @Override
+        public boolean complete(String path, String uploadId, List<String> etags, PutCondition condition) {
+            List<PartETag> partETags = new ArrayList<>(etags.size());
+            for (int i = 0; i < etags.size(); i++) {
+                partETags.add(new PartETag(i + 1, etags.get(i)));
+            }
+            CompleteMultipartUploadRequest request = new CompleteMultipartUploadRequest(bucket, path, uploadId, partETags);
+            if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_ABSENT) {
+                request.addHeader(FORBID_OVERWRITE, "true");
+            }
+            try {
+                getOss().completeMultipartUpload(request);
+            } catch (OSSException e) {
+                if (isConditionFailed(path, e)) {
+                    abort(path, uploadId);
+                    return false;
+                }
+                throw e;
+            }
+            log.debug("对象 [" + path + "] 分片上传成功 parts " + etags.size());
+            return true;
+        }
+
+        @Override
+        public void abort(String path, String uploadId) {
+            try {
+                getOss().abortMultipartUpload(new AbortMultipartUploadRequest(bucket, path, uploadId));
+            } catch (OSSException | ClientException e) {
+                log.error("对象 [" + path + "] 中止分片上传失败 " + uploadId);
+            }
+        }
+
+        @Override
+        public boolean isUploadMissing(Throwable e) {
+            return e instanceof OSSException && OSSErrorCode.NO_SUCH_UPLOAD.equals(((OSSException) e).getErrorCode());
+        }
+    }
+
     private void operateOss(OssOperator operator) {
-        OSS oss = getOss();
-        operator.operator(oss);
-        oss.shutdown();
+        operator.operator(getOss());
     }
 
     /**
@@ -0,0 +1,84 @@
+package io.github.yanshenwei.cos;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+/**********************************
+ * @Author YSW
+ * @Description 对象云存储 异步操作, 结果与同名同步方法一致, 不以异常结束
+ * @Date 2026/10/18 - 13:40
+ **********************************/
+
+public interface AsyncObjectCloudStorage {
+
+    /**
+     * 异步上传对象
+     * @param objectPath 对象存储路径
+     * @param file 文件对象
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传流对象
+     * @param objectPath 对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传字节数组对象
+     * @param objectPath 对象存储路径
+     * @param content 对象字节数组
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象复制
+     * @param sourceObject 源对象路径名称
+     * @param targetObject 目标对象路径名称
+     * @param isCover 是否覆盖
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> copyObjectAsync(String sourceObject, String targetObject, boolean isCover) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象获取
+     * @param objectPath 对象存储路径
+     * @return 操作结果, 获取失败时为 null
+     */
+    default CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 异步对象删除
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步判断对象是否存在
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    default CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        return CompletableFuture.completedFuture(false);
+    }
+}
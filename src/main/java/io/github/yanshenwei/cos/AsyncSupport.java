@@ -0,0 +1,204 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**********************************
+ * @Author YSW
+ * @Description 异步接口公共支持: 线程池(平台线程 / 虚拟线程)与任务提交
+ * @Date 2026/10/18 - 13:45
+ **********************************/
+
+final class AsyncSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncSupport.class);
+
+    private AsyncSupport() {
+    }
+
+    /**
+     * 异步操作线程池: 固定线程数, 有界等待队列, 队列已满时拒绝提交; 启用虚拟线程时每个任务一个虚拟线程, 以信号量限制同时执行数
+     */
+    static ExecutorService newAsyncExecutor(int threads, int queueCapacity, String threadNamePrefix,
+                                            boolean virtualThreads, int virtualThreadPermits) {
+        if (virtualThreads) {
+            final ExecutorService executor = newVirtualThreadExecutor(virtualThreadPermits, threadNamePrefix);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        return newBoundedExecutor(threads, queueCapacity, threadNamePrefix);
+    }
+
+    /**
+     * 分片线程池: 固定线程数; 启用虚拟线程时每个任务一个虚拟线程, 以信号量限制同时执行数
+     */
+    static ExecutorService newPartExecutor(int threads, String threadNamePrefix,
+                                           boolean virtualThreads, int virtualThreadPermits) {
+        if (virtualThreads) {
+            final ExecutorService executor = newVirtualThreadExecutor(virtualThreadPermits, threadNamePrefix);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        return Executors.newFixedThreadPool(Math.max(1, threads), new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    /**
+     * 虚拟线程执行器(JDK 21+), 编译目标为 Java 8, 通过反射创建; 当前 JVM 不支持时返回 null
+     */
+    private static ExecutorService newVirtualThreadExecutor(int permits, String threadNamePrefix) {
+        try {
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, threadNamePrefix, 1L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            final ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory);
+            log.debug(threadNamePrefix + " 使用虚拟线程, 同时执行上限 " + permits);
+            return new PermitExecutor(executor, permits);
+        } catch (ReflectiveOperationException e) {
+            log.warn("当前 JVM 不支持虚拟线程, " + threadNamePrefix + " 使用平台线程池");
+            return null;
+        }
+    }
+
+    /**
+     * 工作线程池: 固定线程数, 无界等待队列, 空闲线程超时回收(用于双云读写, 异步复制及前缀复制);
+     * 启用虚拟线程时每个任务一个虚拟线程, 以信号量限制同时执行数
+     */
+    static ExecutorService newWorkerExecutor(int threads, String threadNamePrefix,
+                                             boolean virtualThreads, int virtualThreadPermits) {
+        if (virtualThreads) {
+            final ExecutorService executor = newVirtualThreadExecutor(virtualThreadPermits, threadNamePrefix);
+            if (executor != null) {
+                return executor;
+            }
+        }
+        final int size = Math.max(1, threads);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory(threadNamePrefix));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 固定线程数, 有界等待队列, 队列已满时拒绝提交
+     */
+    private static ExecutorService newBoundedExecutor(int threads, int queueCapacity, String threadNamePrefix) {
+        final int size = Math.max(1, threads);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                new CustomizableThreadFactory(threadNamePrefix), new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 在线程池中执行同步操作, 线程池已满或已关闭, 以及操作抛出异常时返回 fallback
+     */
+    static <T> CompletableFuture<T> supply(ExecutorService executor, Supplier<T> supplier, T fallback) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return supplier.get();
+                } catch (RuntimeException e) {
+                    log.error("异步任务执行异常 " + e.getMessage());
+                    return fallback;
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            log.error("异步任务队列已满, 提交被拒绝");
+            return CompletableFuture.completedFuture(fallback);
+        }
+    }
+
+    /**
+     * 异步异常的实际原因
+     */
+    static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    /**
+     * 任务开始执行前获取许可, 限制同时执行的任务数(虚拟线程在信号量上等待不占用载体线程)
+     */
+    private static class PermitExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+
+        private final Semaphore permits;
+
+        PermitExecutor(ExecutorService delegate, int permits) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(Math.max(1, permits));
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                try {
+                    permits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    if (command instanceof Future) {
+                        ((Future<?>) command).cancel(false);
+                    }
+                    return;
+                }
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.yanshenwei.cos;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**********************************
+ * @Author YSW
+ * @Description 批量删除结果
+ * @Date 2026/10/18 - 19:40
+ **********************************/
+
+public class BatchDeleteResult {
+
+    private final int requested;
+
+    private final Map<String, String> failures;
+
+    public BatchDeleteResult(int requested, Map<String, String> failures) {
+        this.requested = requested;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * 请求删除的对象数(去重后)
+     */
+    public int getRequested() {
+        return requested;
+    }
+
+    /**
+     * 删除成功的对象数
+     */
+    public int getDeleted() {
+        return requested - failures.size();
+    }
+
+    /**
+     * 删除失败的对象路径 -> 失败原因
+     */
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BatchDeleteResult{" +
+                "requested=" + requested +
+                ", deleted=" + getDeleted() +
+                ", failures=" + failures +
+                '}';
+    }
+}
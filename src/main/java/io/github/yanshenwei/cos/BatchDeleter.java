@@ -0,0 +1,113 @@
+package io.github.yanshenwei.cos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**********************************
+ * @Author YSW
+ * @Description 批量删除: 对象路径去重后按每批 1000 个切分, 各批以云存储的多对象删除接口并发执行, 汇总各对象的失败原因
+ * @Date 2026/10/18 - 19:40
+ **********************************/
+
+final class BatchDeleter {
+
+    /**
+     * oss 与 S3 多对象删除接口单次上限
+     */
+    static final int MAX_KEYS_PER_REQUEST = 1000;
+
+    private BatchDeleter() {
+    }
+
+    /**
+     * @param objectPaths 对象存储路径
+     * @param format      对象路径格式化(加全局前缀)
+     * @param deleter     单批删除
+     * @param executor    执行线程池
+     * @param concurrency 同时执行的批数
+     * @return 删除结果, 失败原因以调用方传入的对象路径为键
+     */
+    static BatchDeleteResult delete(Collection<String> objectPaths, Function<String, String> format,
+                                    ChunkDeleter deleter, ExecutorService executor, int concurrency) {
+        if (objectPaths == null || objectPaths.isEmpty()) {
+            return new BatchDeleteResult(0, new LinkedHashMap<>());
+        }
+        final Map<String, String> originals = new LinkedHashMap<>();
+        for (String objectPath : new LinkedHashSet<>(objectPaths)) {
+            originals.put(format.apply(objectPath), objectPath);
+        }
+        final List<String> paths = new ArrayList<>(originals.keySet());
+        final Map<String, String> failures = new LinkedHashMap<>();
+        final Semaphore inFlight = new Semaphore(Math.max(1, concurrency));
+        final List<Future<Map<String, String>>> futures = new ArrayList<>();
+        final List<List<String>> chunks = new ArrayList<>();
+        for (int start = 0; start < paths.size(); start += MAX_KEYS_PER_REQUEST) {
+            final List<String> chunk = paths.subList(start, Math.min(start + MAX_KEYS_PER_REQUEST, paths.size()));
+            chunks.add(chunk);
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.add(null);
+                continue;
+            }
+            try {
+                futures.add(executor.submit(() -> {
+                    try {
+                        return deleter.delete(chunk);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                futures.add(null);
+            }
+        }
+        for (int i = 0; i < chunks.size(); i++) {
+            Map<String, String> chunkFailures;
+            try {
+                if (futures.get(i) == null) {
+                    throw new IllegalStateException("删除任务未能提交");
+                }
+                chunkFailures = futures.get(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                chunkFailures = failAll(chunks.get(i), "删除被中断");
+            } catch (ExecutionException | RuntimeException e) {
+                final Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                chunkFailures = failAll(chunks.get(i), String.valueOf(cause.getMessage()));
+            }
+            chunkFailures.forEach((path, reason) -> failures.put(originals.getOrDefault(path, path), reason));
+        }
+        return new BatchDeleteResult(originals.size(), failures);
+    }
+
+    private static Map<String, String> failAll(List<String> chunk, String reason) {
+        final Map<String, String> failures = new LinkedHashMap<>();
+        chunk.forEach(path -> failures.put(path, reason));
+        return failures;
+    }
+
+    /**
+     * 单批删除(各云存储实现)
+     */
+    interface ChunkDeleter {
+
+        /**
+         * @param paths 格式化后的对象路径, 不超过 {@link #MAX_KEYS_PER_REQUEST} 个
+         * @return 删除失败的对象路径(格式化后) -> 失败原因
+         */
+        Map<String, String> delete(List<String> paths) throws Exception;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.yanshenwei.cos;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**********************************
+ * @Author YSW
+ * @Description 基于 ByteBuffer 只读视图的输入流, 用于缓存命中时直接从映射文件或直接内存读取对象内容
+ * @Date 2026/10/18 - 18:10
+ **********************************/
+
+class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    /**
+     * @param buffer 对象内容, 内部使用其只读视图, 不改变原缓冲区的位置
+     */
+    ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * 对象内容的只读视图(剩余未读部分)
+     */
+    ByteBuffer buffer() {
+        return buffer.slice().asReadOnlyBuffer();
+    }
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        final int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) {
+        final int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+        buffer.position(buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 缓存统计快照(单个云存储的单层缓存)
+ * @Date 2026/10/18 - 17:40
+ **********************************/
+
+public class CacheStats {
+
+    private final String backend;
+
+    private final String tier;
+
+    private final long hits;
+
+    private final long misses;
+
+    private final long evictions;
+
+    private final long size;
+
+    private final long capacity;
+
+    public CacheStats(String backend, String tier, long hits, long misses, long evictions, long size, long capacity) {
+        this.backend = backend;
+        this.tier = tier;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 云存储名称(oss / minio)
+     */
+    public String getBackend() {
+        return backend;
+    }
+
+    /**
+     * 缓存层名称
+     */
+    public String getTier() {
+        return tier;
+    }
+
+    /**
+     * 启动以来命中次数
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * 启动以来未命中次数
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * 启动以来因容量淘汰的条数
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * 当前占用(元数据缓存为条数, 内容缓存为字节数)
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 容量上限, 单位同 {@link #getSize()}
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 命中率, 尚无请求时为 0
+     */
+    public double getHitRate() {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" +
+                "backend='" + backend + '\'' +
+                ", tier='" + tier + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", size=" + size +
+                ", capacity=" + capacity +
+                '}';
+    }
+}
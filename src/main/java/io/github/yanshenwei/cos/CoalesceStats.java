@@ -0,0 +1,71 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 并发读取合并统计快照(单个云存储)
+ * @Date 2026/10/18 - 19:10
+ **********************************/
+
+public class CoalesceStats {
+
+    private final String backend;
+
+    private final long requests;
+
+    private final long joined;
+
+    private final long inFlight;
+
+    public CoalesceStats(String backend, long requests, long joined, long inFlight) {
+        this.backend = backend;
+        this.requests = requests;
+        this.joined = joined;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * 云存储名称(oss / minio)
+     */
+    public String getBackend() {
+        return backend;
+    }
+
+    /**
+     * 启动以来实际向云存储发起的请求数
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * 启动以来合并到已有请求、未向云存储发起请求的调用数
+     */
+    public long getJoined() {
+        return joined;
+    }
+
+    /**
+     * 当前进行中的请求数
+     */
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * 被合并的调用占全部调用的比例, 尚无调用时为 0
+     */
+    public double getJoinRate() {
+        final long total = requests + joined;
+        return total == 0 ? 0 : (double) joined / total;
+    }
+
+    @Override
+    public String toString() {
+        return "CoalesceStats{" +
+                "backend='" + backend + '\'' +
+                ", requests=" + requests +
+                ", joined=" + joined +
+                ", inFlight=" + inFlight +
+                '}';
+    }
+}
@@ -0,0 +1,237 @@
+package io.github.yanshenwei.cos;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**********************************
+ * @Author YSW
+ * @Description 并发读取合并: 同一对象同时进行的 getObject / statObject / isObjectExist 只向云存储发起一次请求,
+ * 其余调用等待该请求的结果; getObject 的对象流经 {@link StreamTee} 分发给各调用方,
+ * 各方读取进度差超出内存上限的部分缓存到临时文件. 本客户端写入对象后新的读取不再合并到写入前发起的请求
+ * @Date 2026/10/18 - 19:10
+ **********************************/
+
+class CoalescingStorage extends ForwardingCosStorage {
+
+    private final String backend;
+
+    private final long memoryLimit;
+
+    private final String spillDir;
+
+    private final Map<String, Flight<CosObject>> objectFlights = new ConcurrentHashMap<>();
+
+    private final Map<String, Flight<CosObject>> statFlights = new ConcurrentHashMap<>();
+
+    private final Map<String, Flight<Boolean>> existFlights = new ConcurrentHashMap<>();
+
+    /**
+     * 合并到已有请求的调用数
+     */
+    private final AtomicLong joined = new AtomicLong();
+
+    /**
+     * 实际发起的请求数
+     */
+    private final AtomicLong led = new AtomicLong();
+
+    CoalescingStorage(String backend, CosStorage delegate, long memoryLimit, String spillDir) {
+        super(delegate);
+        this.backend = backend;
+        this.memoryLimit = memoryLimit;
+        this.spillDir = spillDir;
+    }
+
+    @Override
+    public CosObject getObject(String objectPath) {
+        return coalesce(objectFlights, objectPath, delegate::getObject, this::share);
+    }
+
+    @Override
+    public CosObject statObject(String objectPath) {
+        return coalesce(statFlights, objectPath, delegate::statObject, (stat, callers) -> {
+            final List<CosObject> results = new ArrayList<>(callers);
+            results.add(stat);
+            for (int i = 1; i < callers; i++) {
+                results.add(copy(stat));
+            }
+            return results;
+        });
+    }
+
+    @Override
+    public boolean isObjectExist(String objectPath) {
+        return coalesce(existFlights, objectPath, delegate::isObjectExist,
+                (exists, callers) -> Collections.nCopies(callers, exists));
+    }
+
+    @Override
+    protected void written(String objectPath) {
+        objectFlights.remove(objectPath);
+        statFlights.remove(objectPath);
+        existFlights.remove(objectPath);
+    }
+
+    @Override
+    protected void writtenPrefix(String prefix) {
+        objectFlights.keySet().removeIf(path -> path.startsWith(prefix));
+        statFlights.keySet().removeIf(path -> path.startsWith(prefix));
+        existFlights.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    CoalesceStats stats() {
+        return new CoalesceStats(backend, led.get(), joined.get(),
+                objectFlights.size() + statFlights.size() + existFlights.size());
+    }
+
+    /**
+     * 加入同一对象正在进行的请求, 没有时自己发起请求并将结果分发给请求期间加入的调用方
+     *
+     * @param flights    进行中的请求
+     * @param objectPath 对象存储路径
+     * @param operation  请求
+     * @param share      按调用方数量分发结果, 第一个结果归发起方
+     */
+    private <T> T coalesce(Map<String, Flight<T>> flights, String objectPath, Function<String, T> operation,
+                           Share<T> share) {
+        if (objectPath == null) {
+            return operation.apply(null);
+        }
+        final String key = cacheKey(objectPath);
+        while (true) {
+            final Flight<T> flight = new Flight<>();
+            final Flight<T> existing = flights.putIfAbsent(key, flight);
+            if (existing != null) {
+                final int index = existing.join();
+                if (index < 0) {
+                    // 该请求已返回, 重新发起
+                    flights.remove(key, existing);
+                    continue;
+                }
+                joined.incrementAndGet();
+                return existing.await(index);
+            }
+            led.incrementAndGet();
+            T result = null;
+            RuntimeException failure = null;
+            try {
+                result = operation.apply(objectPath);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                flights.remove(key, flight);
+            }
+            final int callers = flight.seal();
+            if (failure != null) {
+                flight.results.completeExceptionally(failure);
+                throw failure;
+            }
+            if (callers == 1) {
+                flight.results.complete(Collections.singletonList(result));
+                return result;
+            }
+            final List<T> results = share.apply(result, callers);
+            flight.results.complete(results);
+            return results.get(0);
+        }
+    }
+
+    /**
+     * 对象流分为多个分支, 全部分支关闭后关闭原对象流
+     */
+    private List<CosObject> share(CosObject cosObject, int callers) {
+        final List<CosObject> results = new ArrayList<>(callers);
+        if (cosObject == null || cosObject.getInputStream() == null) {
+            results.add(cosObject);
+            for (int i = 1; i < callers; i++) {
+                results.add(copy(cosObject));
+            }
+            return results;
+        }
+        final StreamTee tee = new StreamTee(cosObject.getInputStream(), callers, memoryLimit, spillDir, true);
+        for (int i = 0; i < callers; i++) {
+            final CosObject branch = copy(cosObject);
+            branch.setInputStream(tee.branch(i));
+            results.add(branch);
+        }
+        return results;
+    }
+
+    private static CosObject copy(CosObject source) {
+        if (source == null) {
+            return null;
+        }
+        final CosObject cosObject = new CosObject();
+        cosObject.setPath(source.getPath());
+        cosObject.setContentLength(source.getContentLength());
+        cosObject.setContentType(source.getContentType());
+        cosObject.setEtag(source.getEtag());
+        cosObject.setRangeStart(source.getRangeStart());
+        cosObject.setRangeEnd(source.getRangeEnd());
+        cosObject.setTotalLength(source.getTotalLength());
+        return cosObject;
+    }
+
+    private static void close(Object result) {
+        if (result instanceof CosObject && ((CosObject) result).getInputStream() != null) {
+            try {
+                ((CosObject) result).getInputStream().close();
+            } catch (IOException ignored) {
+                // 未被读取的分支流, 关闭失败不影响结果
+            }
+        }
+    }
+
+    private interface Share<T> {
+
+        List<T> apply(T result, int callers);
+    }
+
+    /**
+     * 进行中的请求, 返回前加入的调用方按加入顺序取得各自的结果
+     */
+    private static class Flight<T> {
+
+        private final CompletableFuture<List<T>> results = new CompletableFuture<>();
+
+        private int callers = 1;
+
+        private boolean sealed;
+
+        /**
+         * @return 调用方序号, 请求已返回时为 -1
+         */
+        synchronized int join() {
+            return sealed ? -1 : callers++;
+        }
+
+        synchronized int seal() {
+            sealed = true;
+            return callers;
+        }
+
+        T await(int index) {
+            try {
+                return results.get().get(index);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // 放弃等待的调用方不会关闭分到的对象流, 结果返回后代为关闭, 以免阻塞其他分支释放缓存
+                results.thenAccept(list -> close(list.get(index)));
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.yanshenwei.cos;
+
+import io.github.yanshenwei.cos.config.CosConstants;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**********************************
+ * @Author YSW
+ * @Description 缓存管理: 按配置为各云存储组装缓存装饰, 同一云存储在 CosSimpleModel 与 CosMultiModel 间共用同一组缓存,
+ * 经任一入口的写操作都会失效缓存
+ * @Date 2026/10/18 - 17:50
+ **********************************/
+
+@Component
+public class CosCacheManager {
+
+    @Resource
+    private CosConstants.CacheConfig cacheConfig;
+
+    private final Map<String, CosStorage> storages = new ConcurrentHashMap<>();
+
+    private final Map<String, CoalescingStorage> coalescers = new ConcurrentHashMap<>();
+
+    private final Map<String, MetadataCachingStorage> metadataCaches = new ConcurrentHashMap<>();
+
+    private final Map<String, DiskCachingStorage> diskCaches = new ConcurrentHashMap<>();
+
+    private final Map<String, MemoryCachingStorage> memoryCaches = new ConcurrentHashMap<>();
+
+    /**
+     * 获取云存储的缓存装饰, 未启用任何缓存时返回云存储本身
+     *
+     * @param backend 云存储名称(oss / minio)
+     * @param storage 云存储实现
+     * @return 装饰后的云存储
+     */
+    CosStorage decorate(String backend, CosStorage storage) {
+        return storages.computeIfAbsent(backend, name -> {
+            CosStorage decorated = storage;
+            if (cacheConfig.isCoalesceEnabled()) {
+                // 紧贴云存储, 各缓存层未命中时的并发请求同样被合并
+                final CoalescingStorage coalescer = new CoalescingStorage(name, decorated,
+                        cacheConfig.getCoalesceMemoryLimit(), cacheConfig.getCoalesceSpillDir());
+                coalescers.put(name, coalescer);
+                decorated = coalescer;
+            }
+            if (cacheConfig.isMetadataEnabled()) {
+                final MetadataCachingStorage metadataCache = new MetadataCachingStorage(name, decorated,
+                        cacheConfig.getMetadataMaxEntries(), cacheConfig.getMetadataTtl(),
+                        cacheConfig.getMetadataNegativeTtl());
+                metadataCaches.put(name, metadataCache);
+                decorated = metadataCache;
+            }
+            if (cacheConfig.isDiskEnabled()) {
+                try {
+                    final DiskCachingStorage diskCache = new DiskCachingStorage(name, decorated,
+                            Paths.get(cacheConfig.getDiskDir()), cacheConfig.getDiskMaxBytes(),
+                            cacheConfig.getDiskMaxObjectSize(), cacheConfig.getDiskRevalidateTtl());
+                    diskCaches.put(name, diskCache);
+                    decorated = diskCache;
+                } catch (IOException e) {
+                    throw new IllegalStateException("磁盘缓存目录 [" + cacheConfig.getDiskDir() + "] 初始化失败", e);
+                }
+            }
+            if (cacheConfig.isMemoryEnabled()) {
+                final MemoryCachingStorage memoryCache = new MemoryCachingStorage(name, decorated,
+                        cacheConfig.getMemoryMaxBytes(), cacheConfig.getMemoryMaxObjectSize(),
+                        cacheConfig.getMemoryRevalidateTtl());
+                memoryCaches.put(name, memoryCache);
+                decorated = memoryCache;
+            }
+            return decorated;
+        });
+    }
+
+    /**
+     * 失效云存储各层缓存中的对象, 用于未经缓存装饰的写入(如响应式上传)
+     *
+     * @param backend    云存储名称(oss / minio)
+     * @param objectPath 对象存储路径
+     */
+    void invalidate(String backend, String objectPath) {
+        final CosStorage storage = storages.get(backend);
+        if (storage instanceof ForwardingCosStorage) {
+            ((ForwardingCosStorage) storage).invalidate(objectPath);
+        }
+    }
+
+    /**
+     * 各云存储各层缓存(元数据 / 磁盘 / 内存)的命中与占用统计, 未启用缓存时返回空列表; 并发读取合并见 {@link #getCoalesceStats()}
+     *
+     * @return 缓存统计
+     */
+    public List<CacheStats> getStats() {
+        final List<CacheStats> stats = new ArrayList<>();
+        metadataCaches.values().forEach(cache -> stats.add(cache.stats()));
+        diskCaches.values().forEach(cache -> stats.add(cache.stats()));
+        memoryCaches.values().forEach(cache -> stats.add(cache.stats()));
+        return stats;
+    }
+
+    /**
+     * 各云存储的并发读取合并统计, 未启用合并时返回空列表
+     *
+     * @return 合并统计
+     */
+    public List<CoalesceStats> getCoalesceStats() {
+        final List<CoalesceStats> stats = new ArrayList<>();
+        coalescers.values().forEach(coalescer -> stats.add(coalescer.stats()));
+        return stats;
+    }
+}
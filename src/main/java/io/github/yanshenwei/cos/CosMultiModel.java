@@ -1,16 +1,44 @@
 package io.github.yanshenwei.cos;
 
 import io.github.yanshenwei.cos.config.CosConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**********************************
  * @Author YSW
@@ -19,7 +47,9 @@ import java.util.List;
  **********************************/
 
 @Component
-public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAware {
+public class CosMultiModel implements ObjectCloudStorage, AsyncObjectCloudStorage, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(CosMultiModel.class);
 
     @Resource
     private CosConstants.AliossConfig aliossConfig;
@@ -27,20 +57,414 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
     @Resource
     private CosConstants.MinioConfig minioConfig;
 
-    private MinioModel minioModel;
+    @Resource
+    private CosConstants.MultiConfig multiConfig;
+
+    private CosStorage minioModel;
+
+    private CosStorage aliossModel;
+
+    private ExecutorService writeExecutor;
+
+    private ExecutorService readExecutor;
+
+    /**
+     * 双云前缀复制线程池, 复制操作内部会等待写入线程池, 不能共用
+     */
+    private ExecutorService copyExecutor;
+
+    private ReadRouter readRouter;
+
+    /**
+     * 未启用读取路由时的读取顺序, 启用异步复制时主云存储在前
+     */
+    private String[] defaultReadOrder = {ReadRouter.OSS, ReadRouter.MINIO};
+
+    private Replicator replicator;
+
+    @PostConstruct
+    private void init() {
+        writeExecutor = AsyncSupport.newWorkerExecutor(Math.max(2, multiConfig.getWriteThreads()), "cos-multi-write-",
+                multiConfig.isVirtualThreads(), multiConfig.getVirtualThreadPermits());
+        copyExecutor = AsyncSupport.newWorkerExecutor(multiConfig.getCopyConcurrency(), "cos-multi-copy-",
+                multiConfig.isVirtualThreads(), multiConfig.getVirtualThreadPermits());
+        if (multiConfig.isRoutingEnabled()) {
+            readRouter = new ReadRouter(multiConfig.getRoutingEwmaAlpha(), multiConfig.getRoutingProbeRatio(),
+                    multiConfig.getRoutingErrorThreshold());
+        }
+        if (multiConfig.isHedgeEnabled()) {
+            readExecutor = AsyncSupport.newWorkerExecutor(Math.max(2, multiConfig.getReadThreads()), "cos-multi-read-",
+                    multiConfig.isVirtualThreads(), multiConfig.getVirtualThreadPermits());
+        }
+        if (multiConfig.isReplicationEnabled() && aliossConfig.isEnable() && minioConfig.isEnable()) {
+            initReplicator();
+        }
+    }
+
+    private void initReplicator() {
+        final String primaryName = ReadRouter.MINIO.equalsIgnoreCase(multiConfig.getReplicationPrimary()) ?
+                ReadRouter.MINIO : ReadRouter.OSS;
+        final String secondaryName = ReadRouter.OSS.equals(primaryName) ? ReadRouter.MINIO : ReadRouter.OSS;
+        try {
+            replicator = new Replicator(Paths.get(multiConfig.getReplicationJournalDir()), primaryName,
+                    storage(primaryName), storage(secondaryName),
+                    AsyncSupport.newWorkerExecutor(multiConfig.getReplicationWorkers(), "cos-replication-",
+                            multiConfig.isVirtualThreads(), multiConfig.getVirtualThreadPermits()),
+                    multiConfig.getReplicationBatchSize(), multiConfig.getReplicationMaxRetries(),
+                    multiConfig.getReplicationRetryDelay());
+            replicator.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("复制日志 [" + multiConfig.getReplicationJournalDir() + "] 打开失败", e);
+        }
+        defaultReadOrder = new String[]{primaryName, secondaryName};
+        log.info("已启用异步复制 " + primaryName + " -> " + secondaryName);
+    }
 
-    private AliossModel aliossModel;
+    @PreDestroy
+    private void destroy() {
+        if (writeExecutor != null) {
+            writeExecutor.shutdownNow();
+        }
+        if (readExecutor != null) {
+            readExecutor.shutdownNow();
+        }
+        if (copyExecutor != null) {
+            copyExecutor.shutdownNow();
+        }
+        if (replicator != null) {
+            replicator.stop();
+        }
+    }
 
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         List<String> beanList = Arrays.asList(applicationContext.getBeanDefinitionNames());
+        final CosCacheManager cacheManager = applicationContext.getBean(CosCacheManager.class);
         //noinspection AlibabaUndefineMagicConstant
         if (beanList.contains("aliossModel")){
-            aliossModel = applicationContext.getBean(AliossModel.class);
+            aliossModel = cacheManager.decorate(ReadRouter.OSS, applicationContext.getBean(AliossModel.class));
         }
         //noinspection AlibabaUndefineMagicConstant
         if (beanList.contains("minioModel")){
-            minioModel = applicationContext.getBean(MinioModel.class);
+            minioModel = cacheManager.decorate(ReadRouter.MINIO, applicationContext.getBean(MinioModel.class));
+        }
+    }
+
+    /**
+     * 双云并发写入: 两个云存储在写入线程池中同时执行同一操作, 整体等待不超过 write-timeout,
+     * 未启用的一方记为 DISABLED, 超时未完成的一方被取消并记为 TIMEOUT; 只启用一方时在调用线程中执行
+     *
+     * @param operation 写操作
+     * @return 各云存储的执行状态
+     */
+    private MultiWriteResult write(Function<ObjectCloudStorage, Boolean> operation) {
+        if (aliossConfig.isEnable() != minioConfig.isEnable()) {
+            final MultiWriteResult.Status status = apply(aliossConfig.isEnable() ? ReadRouter.OSS : ReadRouter.MINIO,
+                    operation);
+            return aliossConfig.isEnable() ? new MultiWriteResult(status, MultiWriteResult.Status.DISABLED)
+                    : new MultiWriteResult(MultiWriteResult.Status.DISABLED, status);
+        }
+        final Future<Boolean> aliossFuture = aliossConfig.isEnable() ?
+                writeExecutor.submit(() -> operation.apply(aliossModel)) : null;
+        final Future<Boolean> minioFuture = minioConfig.isEnable() ?
+                writeExecutor.submit(() -> operation.apply(minioModel)) : null;
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(multiConfig.getWriteTimeout());
+        final MultiWriteResult result = new MultiWriteResult(
+                await("oss", aliossFuture, deadline), await("minio", minioFuture, deadline));
+        if (!result.isSuccess()) {
+            log.error("双云写入失败 " + result);
+        }
+        return result;
+    }
+
+    /**
+     * 双云写入对象: 启用异步复制时只同步写入主云存储, 成功后追加复制日志, 从云存储记为 PENDING
+     * (主云存储失败时记为 SKIPPED), 由后台复制到从云存储; 否则同 {@link #write(Function)}
+     *
+     * @param op        复制操作 {@link Replicator#PUT} / {@link Replicator#DELETE}
+     * @param path      需要复制的对象路径
+     * @param operation 写操作
+     * @return 各云存储的执行状态
+     */
+    private MultiWriteResult write(String op, String path, Function<ObjectCloudStorage, Boolean> operation) {
+        if (replicator == null) {
+            return write(operation);
+        }
+        final String primaryName = replicator.getPrimaryName();
+        final MultiWriteResult.Status primary = apply(primaryName, operation);
+        final MultiWriteResult.Status secondary;
+        if (primary != MultiWriteResult.Status.SUCCESS) {
+            secondary = MultiWriteResult.Status.SKIPPED;
+        } else {
+            secondary = replicator.append(op, path) ? MultiWriteResult.Status.PENDING : MultiWriteResult.Status.FAILED;
+        }
+        return ReadRouter.OSS.equals(primaryName) ? new MultiWriteResult(primary, secondary)
+                : new MultiWriteResult(secondary, primary);
+    }
+
+    /**
+     * 在调用线程中对单个云存储执行写操作
+     */
+    private MultiWriteResult.Status apply(String name, Function<ObjectCloudStorage, Boolean> operation) {
+        try {
+            return Boolean.TRUE.equals(operation.apply(storage(name))) ?
+                    MultiWriteResult.Status.SUCCESS : MultiWriteResult.Status.FAILED;
+        } catch (RuntimeException e) {
+            log.error(name + " 写入异常 " + e.getMessage());
+            return MultiWriteResult.Status.FAILED;
+        }
+    }
+
+    /**
+     * 异步双云写入对象, 启用异步复制时只写入主云存储, 成功后追加复制日志
+     */
+    private CompletableFuture<Boolean> writeAsync(String op, String path,
+                                                  Function<AsyncObjectCloudStorage, CompletableFuture<Boolean>> operation) {
+        final AsyncObjectCloudStorage primary =
+                ReadRouter.OSS.equals(replicator.getPrimaryName()) ? aliossModel : minioModel;
+        return operation.apply(primary).thenApply(result -> result && replicator.append(op, path));
+    }
+
+    /**
+     * 当前异步复制统计, 未启用异步复制时返回 null
+     *
+     * @return 待复制条数, 复制延迟, 成功与失败条数
+     */
+    public ReplicationStats getReplicationStats() {
+        return replicator != null ? replicator.stats() : null;
+    }
+
+    /**
+     * 双云流上传: 源流只读取一次, 分流给两个云存储并发上传, 两端进度差超出内存上限的部分缓存到临时文件;
+     * 启用异步复制或只启用一方时直接上传
+     */
+    private MultiWriteResult writeStream(String path, InputStream inputStream,
+                                         BiFunction<ObjectCloudStorage, InputStream, Boolean> operation) {
+        if (replicator != null || aliossConfig.isEnable() != minioConfig.isEnable()) {
+            return write(Replicator.PUT, path, storage -> operation.apply(storage, inputStream));
+        }
+        try (StreamTee tee = newStreamTee(inputStream)) {
+            return write(storage -> {
+                try (StreamTee.Branch branch = tee.branch(storage == aliossModel ? 0 : 1)) {
+                    return operation.apply(storage, branch);
+                }
+            });
+        }
+    }
+
+    private StreamTee newStreamTee(InputStream inputStream) {
+        return new StreamTee(inputStream, 2, multiConfig.getTeeMemoryLimit(), multiConfig.getTeeSpillDir());
+    }
+
+    /**
+     * 双云读取: 未启用对冲读取时先读首选方, 失败再读另一方; 启用时见 {@link #hedgedRead(String[], Function)}.
+     * 首选方默认为 oss, 启用读取路由时由 {@link ReadRouter} 按实时统计选择
+     */
+    private CosObject read(Function<ObjectCloudStorage, CosObject> operation) {
+        final String[] order = readRouter != null ? readRouter.order() : defaultReadOrder;
+        if (readExecutor == null) {
+            final CosObject first = timedRead(order[0], operation);
+            return hasContent(first) ? first : timedRead(order[1], operation);
+        }
+        return hedgedRead(order, operation);
+    }
+
+    private CosObject timedRead(String name, Function<ObjectCloudStorage, CosObject> operation) {
+        return timedRead(name, operation, CosMultiModel::hasContent);
+    }
+
+    /**
+     * 按读取路由顺序依次读取, 首选方失败再读另一方; 用于元数据获取、下载到文件等不适合对冲的读取
+     *
+     * @param operation 读操作
+     * @param success   判断读取是否成功
+     * @return 首个成功的结果, 均失败时返回另一方的结果
+     */
+    private <T> T orderedRead(Function<ObjectCloudStorage, T> operation, Predicate<T> success) {
+        final String[] order = readRouter != null ? readRouter.order() : defaultReadOrder;
+        final T first = timedRead(order[0], operation, success);
+        return success.test(first) ? first : timedRead(order[1], operation, success);
+    }
+
+    private <T> T timedRead(String name, Function<ObjectCloudStorage, T> operation, Predicate<T> success) {
+        if (readRouter == null) {
+            return operation.apply(storage(name));
+        }
+        final long start = System.nanoTime();
+        readRouter.begin(name);
+        boolean succeeded = false;
+        try {
+            final T result = operation.apply(storage(name));
+            succeeded = success.test(result);
+            return result;
+        } finally {
+            readRouter.end(name, System.nanoTime() - start, succeeded);
+        }
+    }
+
+    /**
+     * 对冲读取: 先向首选方发起读取, 超过 hedge-delay 未返回(或已失败)时再向另一方发起读取,
+     * 先读到首字节的一方胜出, 另一方被中断, 已返回的对象流被关闭
+     */
+    private CosObject hedgedRead(String[] order, Function<ObjectCloudStorage, CosObject> operation) {
+        final CompletableFuture<CosObject> winner = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(2);
+        final Future<?> primary = readExecutor.submit(() -> hedge(order[0], operation, winner, remaining));
+        Future<?> secondary = null;
+        try {
+            try {
+                primary.get(multiConfig.getHedgeDelay(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.debug(order[0] + " 读取超过对冲延迟, 向 " + order[1] + " 发起对冲读取");
+            }
+            if (!winner.isDone()) {
+                secondary = readExecutor.submit(() -> hedge(order[1], operation, winner, remaining));
+            }
+            return winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } finally {
+            primary.cancel(true);
+            if (secondary != null) {
+                secondary.cancel(true);
+            }
+        }
+    }
+
+    private void hedge(String name, Function<ObjectCloudStorage, CosObject> operation,
+                       CompletableFuture<CosObject> winner, AtomicInteger remaining) {
+        final long start = System.nanoTime();
+        if (readRouter != null) {
+            readRouter.begin(name);
+        }
+        boolean success = false;
+        try {
+            final CosObject cosObject = operation.apply(storage(name));
+            success = awaitFirstByte(cosObject);
+            if (success) {
+                if (winner.complete(cosObject)) {
+                    log.debug("对冲读取 " + name + " 胜出");
+                } else {
+                    closeQuietly(cosObject);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error(name + " 读取异常 " + e.getMessage());
+        } finally {
+            if (readRouter != null) {
+                // 对方已胜出后被中断的读取不计入失败
+                if (success || !winner.isDone()) {
+                    readRouter.end(name, System.nanoTime() - start, success);
+                } else {
+                    readRouter.discard(name);
+                }
+            }
+            if (remaining.decrementAndGet() == 0) {
+                winner.complete(null);
+            }
+        }
+    }
+
+    private ObjectCloudStorage storage(String name) {
+        return ReadRouter.OSS.equals(name) ? aliossModel : minioModel;
+    }
+
+    /**
+     * 当前读取路由统计, 未启用读取路由时返回空列表
+     *
+     * @return 各云存储的 EWMA 耗时, 错误率, 在途请求数与路由权重
+     */
+    public List<ReadRouteStats> getReadRouteStats() {
+        return readRouter != null ? readRouter.snapshot() : Collections.emptyList();
+    }
+
+    /**
+     * 读取首字节后回退, 对象流替换为可回退流; 读取失败时关闭对象流
+     */
+    private static boolean awaitFirstByte(CosObject cosObject) {
+        if (!hasContent(cosObject)) {
+            return false;
+        }
+        final PushbackInputStream inputStream = new PushbackInputStream(cosObject.getInputStream());
+        cosObject.setInputStream(inputStream);
+        try {
+            final int first = inputStream.read();
+            if (first >= 0) {
+                inputStream.unread(first);
+            }
+            return true;
+        } catch (IOException e) {
+            closeQuietly(cosObject);
+            return false;
+        }
+    }
+
+    private static boolean hasContent(CosObject cosObject) {
+        return cosObject != null && cosObject.getInputStream() != null;
+    }
+
+    private static void closeQuietly(CosObject cosObject) {
+        try {
+            cosObject.getInputStream().close();
+        } catch (IOException ignored) {
+            // 未被采用的对象流, 关闭失败不影响结果
+        }
+    }
+
+    private MultiWriteResult.Status await(String name, Future<Boolean> future, long deadline) {
+        if (future == null) {
+            return MultiWriteResult.Status.DISABLED;
+        }
+        try {
+            return Boolean.TRUE.equals(awaitResult(name, future, deadline))
+                    ? MultiWriteResult.Status.SUCCESS : MultiWriteResult.Status.FAILED;
+        } catch (TimeoutException e) {
+            return MultiWriteResult.Status.TIMEOUT;
+        }
+    }
+
+    /**
+     * 批量删除的一方: 超时或异常时该方的全部对象记为失败
+     */
+    private BatchDeleteResult awaitDelete(String name, Collection<String> objectPaths,
+                                          Future<BatchDeleteResult> future, long deadline) {
+        String reason;
+        try {
+            final BatchDeleteResult result = awaitResult(name, future, deadline);
+            if (result != null) {
+                return result;
+            }
+            reason = "删除失败";
+        } catch (TimeoutException e) {
+            reason = "删除超时";
+        }
+        final Map<String, String> failures = new LinkedHashMap<>();
+        for (String objectPath : new LinkedHashSet<>(objectPaths)) {
+            failures.put(objectPath, reason);
+        }
+        return new BatchDeleteResult(failures.size(), failures);
+    }
+
+    /**
+     * 等待写入线程池中的任务, 整体不超过 deadline; 超时时取消任务并抛出 TimeoutException, 异常或中断时返回 null
+     */
+    private <T> T awaitResult(String name, Future<T> future, long deadline) throws TimeoutException {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.error(name + " 写入超时");
+            throw e;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            log.error(name + " 写入异常 " + e.getCause().getMessage());
+            return null;
         }
     }
 
@@ -60,13 +484,22 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.putObject(objectPath, file);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.putObject(objectPath, file);
-            final boolean result2 = minioModel.putObject(objectPath, file);
-            return result1 && result2;
+            return putObjectResult(objectPath, file).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 上传对象, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, File file) {
+        return write(Replicator.PUT, objectPath, storage -> storage.putObject(objectPath, file));
+    }
+
     /**
      * 上传流对象
      *
@@ -84,13 +517,24 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.putObject(objectPath, inputStream, contentType);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.putObject(objectPath, inputStream, contentType);
-            final boolean result2 = minioModel.putObject(objectPath, inputStream, contentType);
-            return result1 && result2;
+            return putObjectResult(objectPath, inputStream, contentType).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 上传流对象, 返回各云存储的执行状态
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, InputStream inputStream, String contentType) {
+        return writeStream(objectPath, inputStream,
+                (storage, branch) -> storage.putObject(objectPath, branch, contentType));
+    }
+
     /**
      * 上传字节数组对象
      *
@@ -107,13 +551,22 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.putObject(objectPath, content);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.putObject(objectPath, content);
-            final boolean result2 = minioModel.putObject(objectPath, content);
-            return result1 && result2;
+            return putObjectResult(objectPath, content).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 上传字节数组对象, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @param content    对象字节数组
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, byte[] content) {
+        return write(Replicator.PUT, objectPath, storage -> storage.putObject(objectPath, content));
+    }
+
     /**
      * 上传字节数组对象
      *
@@ -131,13 +584,130 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.putObject(objectPath, content, contentType);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.putObject(objectPath, content, contentType);
-            final boolean result2 = minioModel.putObject(objectPath, content, contentType);
-            return result1 && result2;
+            return putObjectResult(objectPath, content, contentType).isSuccess();
+        }
+        return false;
+    }
+
+    /**
+     * 上传字节数组对象, 返回各云存储的执行状态
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, byte[] content, String contentType) {
+        return write(Replicator.PUT, objectPath, storage -> storage.putObject(objectPath, content, contentType));
+    }
+
+    /**
+     * 按覆盖策略上传对象
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @param condition  覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, File file, PutCondition condition) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, file, condition);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObject(objectPath, file, condition);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return putObjectResult(objectPath, file, condition).isSuccess();
+        }
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传对象, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @param condition  覆盖策略
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, File file, PutCondition condition) {
+        return write(Replicator.PUT, objectPath, storage -> storage.putObject(objectPath, file, condition));
+    }
+
+    /**
+     * 按覆盖策略上传流对象
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, inputStream, contentType, condition);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObject(objectPath, inputStream, contentType, condition);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return putObjectResult(objectPath, inputStream, contentType, condition).isSuccess();
+        }
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传流对象, 返回各云存储的执行状态
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
+        return writeStream(objectPath, inputStream,
+                (storage, branch) -> storage.putObject(objectPath, branch, contentType, condition));
+    }
+
+    /**
+     * 按覆盖策略上传字节数组对象
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, content, contentType, condition);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObject(objectPath, content, contentType, condition);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return putObjectResult(objectPath, content, contentType, condition).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 按覆盖策略上传字节数组对象, 返回各云存储的执行状态
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult putObjectResult(String objectPath, byte[] content, String contentType, PutCondition condition) {
+        return write(Replicator.PUT, objectPath, storage -> storage.putObject(objectPath, content, contentType, condition));
+    }
+
     /**
      * 上传可追加字节流对象
      *
@@ -154,13 +724,22 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.pudAppendableObject(objectPath, content);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.pudAppendableObject(objectPath, content);
-            final boolean result2 = minioModel.pudAppendableObject(objectPath, content);
-            return result1 && result2;
+            return pudAppendableObjectResult(objectPath, content).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 上传可追加字节流对象, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @param content    对象字节数组
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult pudAppendableObjectResult(String objectPath, byte[] content) {
+        return write(Replicator.PUT, objectPath, storage -> storage.pudAppendableObject(objectPath, content));
+    }
+
     /**
      * 对象追加内容
      *
@@ -177,13 +756,22 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.appendObject(objectPath, content);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.appendObject(objectPath, content);
-            final boolean result2 = minioModel.appendObject(objectPath, content);
-            return result1 && result2;
+            return appendObjectResult(objectPath, content).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 对象追加内容, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @param content    对象字节数组
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult appendObjectResult(String objectPath, byte[] content) {
+        return write(Replicator.PUT, objectPath, storage -> storage.appendObject(objectPath, content));
+    }
+
     /**
      * 对象复制
      *
@@ -200,13 +788,22 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.copyObject(sourceObject, targetObject);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.copyObject(sourceObject, targetObject);
-            final boolean result2 = minioModel.copyObject(sourceObject, targetObject);
-            return result1 && result2;
+            return copyObjectResult(sourceObject, targetObject).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 对象复制, 返回各云存储的执行状态
+     *
+     * @param sourceObject 源对象路径名称
+     * @param targetObject 目标对象路径名称
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult copyObjectResult(String sourceObject, String targetObject) {
+        return write(Replicator.PUT, targetObject, storage -> storage.copyObject(sourceObject, targetObject));
+    }
+
     /**
      * 对象复制
      *
@@ -224,13 +821,23 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.copyObject(sourceObject, targetObject, isCover);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.copyObject(sourceObject, targetObject, isCover);
-            final boolean result2 = minioModel.copyObject(sourceObject, targetObject, isCover);
-            return result1 && result2;
+            return copyObjectResult(sourceObject, targetObject, isCover).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 对象复制, 返回各云存储的执行状态
+     *
+     * @param sourceObject 源对象路径名称
+     * @param targetObject 目标对象路径名称
+     * @param isCover      目标对象存在时是否覆盖
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult copyObjectResult(String sourceObject, String targetObject, boolean isCover) {
+        return write(Replicator.PUT, targetObject, storage -> storage.copyObject(sourceObject, targetObject, isCover));
+    }
+
     /**
      * 对象获取
      *
@@ -246,12 +853,119 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.getObject(objectPath);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final CosObject aliossModelObject = aliossModel.getObject(objectPath);
-            return aliossModelObject.getInputStream() != null ? aliossModelObject : minioModel.getObject(objectPath);
+            return read(storage -> storage.getObject(objectPath));
+        }
+        return null;
+    }
+
+    /**
+     * 对象范围获取
+     *
+     * @param objectPath 对象存储路径
+     * @param offset     起始位置
+     * @param length     读取长度, 小于 0 时读取到对象末尾
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObject(String objectPath, long offset, long length) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.getObject(objectPath, offset, length);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.getObject(objectPath, offset, length);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return read(storage -> storage.getObject(objectPath, offset, length));
+        }
+        return null;
+    }
+
+    /**
+     * 对象末尾范围获取
+     *
+     * @param objectPath   对象存储路径
+     * @param suffixLength 读取对象最后 suffixLength 个字节
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.getObjectSuffix(objectPath, suffixLength);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.getObjectSuffix(objectPath, suffixLength);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return read(storage -> storage.getObjectSuffix(objectPath, suffixLength));
+        }
+        return null;
+    }
+
+    /**
+     * 对象元数据获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 对象元数据, 对象不存在时返回 null
+     */
+    @Override
+    public CosObject statObject(String objectPath) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.statObject(objectPath);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.statObject(objectPath);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return orderedRead(storage -> storage.statObject(objectPath), Objects::nonNull);
         }
         return null;
     }
 
+    /**
+     * 多连接分段下载对象到本地文件
+     *
+     * @param objectPath 对象存储路径
+     * @param target     本地目标文件
+     * @return 操作结果
+     */
+    @Override
+    public boolean downloadToFile(String objectPath, Path target) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.downloadToFile(objectPath, target);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.downloadToFile(objectPath, target);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return orderedRead(storage -> storage.downloadToFile(objectPath, target), Boolean.TRUE::equals);
+        }
+        return false;
+    }
+
+    /**
+     * 对象内容写入通道
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标通道
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    /**
+     * 对象内容写入输出流
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标输出流
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
     @Override
     public CosObject getUrlObject(String objectUrl) {
         if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
@@ -261,8 +975,7 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.getUrlObject(objectUrl);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final CosObject aliossModelObject = aliossModel.getUrlObject(objectUrl);
-            return aliossModelObject.getInputStream() != null ? aliossModelObject : minioModel.getUrlObject(objectUrl);
+            return read(storage -> storage.getUrlObject(objectUrl));
         }
         return null;
     }
@@ -297,13 +1010,158 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.deleteObject(objectPath);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.deleteObject(objectPath);
-            final boolean result2 = minioModel.deleteObject(objectPath);
-            return result1 && result2;
+            return deleteObjectResult(objectPath).isSuccess();
         }
         return false;
     }
 
+    /**
+     * 对象删除, 返回各云存储的执行状态
+     *
+     * @param objectPath 对象存储路径
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult deleteObjectResult(String objectPath) {
+        return write(Replicator.DELETE, objectPath, storage -> storage.deleteObject(objectPath));
+    }
+
+    /**
+     * 批量删除对象, 双云同时启用时两个云存储在写入线程池中并发删除, 整体等待不超过 write-timeout,
+     * 任一方失败或超时的对象记为失败;
+     * 启用异步复制时只删除主云存储, 删除成功的对象追加复制日志
+     *
+     * @param objectPaths 对象存储路径
+     * @return 删除结果(含各对象的失败原因, 以云存储名称区分)
+     */
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.deleteObjects(objectPaths);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.deleteObjects(objectPaths);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (objectPaths == null || objectPaths.isEmpty()) {
+                return new BatchDeleteResult(0, new LinkedHashMap<>());
+            }
+            if (replicator != null) {
+                final BatchDeleteResult result = storage(replicator.getPrimaryName()).deleteObjects(objectPaths);
+                final Map<String, String> failures = new LinkedHashMap<>(result.getFailures());
+                for (String objectPath : new LinkedHashSet<>(objectPaths)) {
+                    if (!failures.containsKey(objectPath) && !replicator.append(Replicator.DELETE, objectPath)) {
+                        failures.put(objectPath, "复制日志写入失败");
+                    }
+                }
+                return new BatchDeleteResult(result.getRequested(), failures);
+            }
+            final Future<BatchDeleteResult> aliossFuture =
+                    writeExecutor.submit(() -> aliossModel.deleteObjects(objectPaths));
+            final Future<BatchDeleteResult> minioFuture =
+                    writeExecutor.submit(() -> minioModel.deleteObjects(objectPaths));
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(multiConfig.getWriteTimeout());
+            final BatchDeleteResult aliossResult = awaitDelete(ReadRouter.OSS, objectPaths, aliossFuture, deadline);
+            final BatchDeleteResult minioResult = awaitDelete(ReadRouter.MINIO, objectPaths, minioFuture, deadline);
+            return mergeDeleteResults(objectPaths, aliossResult, minioResult);
+        }
+        return null;
+    }
+
+    /**
+     * 列举对象, 双云同时启用时只列举首选方(默认 oss, 启用异步复制时为主云存储), 两个云存储的对象路径一致
+     *
+     * @param prefix    路径前缀
+     * @param delimiter 分隔符, 为空时递归列举
+     * @return 对象条目流
+     */
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.listObjects(prefix, delimiter);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.listObjects(prefix, delimiter);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return storage(defaultReadOrder[0]).listObjects(prefix, delimiter);
+        }
+        return null;
+    }
+
+    /**
+     * 复制前缀下的全部对象, 双云同时启用时逐个对象按双云复制执行(启用异步复制时只复制主云存储并追加复制日志)
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 复制结果
+     */
+    @Override
+    public PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.copyPrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.copyPrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, false, copyExecutor,
+                    copyConcurrency());
+        }
+        return null;
+    }
+
+    /**
+     * 移动前缀下的全部对象, 双云同时启用时源对象以双云批量删除删除
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 移动结果
+     */
+    @Override
+    public PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.movePrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.movePrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, true, copyExecutor,
+                    copyConcurrency());
+        }
+        return null;
+    }
+
+    /**
+     * 双云前缀复制的并发数, 启用虚拟线程时不超过虚拟线程许可数
+     */
+    private int copyConcurrency() {
+        return multiConfig.isVirtualThreads() ?
+                Math.min(multiConfig.getCopyConcurrency(), multiConfig.getVirtualThreadPermits())
+                : multiConfig.getCopyConcurrency();
+    }
+
+    private static BatchDeleteResult mergeDeleteResults(Collection<String> objectPaths, BatchDeleteResult aliossResult,
+                                                        BatchDeleteResult minioResult) {
+        final Set<String> paths = new LinkedHashSet<>(objectPaths);
+        final Map<String, String> failures = new LinkedHashMap<>();
+        for (String objectPath : paths) {
+            final String aliossFailure = aliossResult.getFailures().get(objectPath);
+            final String minioFailure = minioResult.getFailures().get(objectPath);
+            if (aliossFailure != null && minioFailure != null) {
+                failures.put(objectPath,
+                        ReadRouter.OSS + ": " + aliossFailure + "; " + ReadRouter.MINIO + ": " + minioFailure);
+            } else if (aliossFailure != null) {
+                failures.put(objectPath, ReadRouter.OSS + ": " + aliossFailure);
+            } else if (minioFailure != null) {
+                failures.put(objectPath, ReadRouter.MINIO + ": " + minioFailure);
+            }
+        }
+        return new BatchDeleteResult(paths.size(), failures);
+    }
+
     /**
      * 对象是否存在
      *
@@ -319,6 +1177,10 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.isObjectExist(objectPath);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                // 从云存储可能尚未复制完成, 以主云存储为准
+                return storage(replicator.getPrimaryName()).isObjectExist(objectPath);
+            }
             final boolean result1 = aliossModel.isObjectExist(objectPath);
             final boolean result2 = minioModel.isObjectExist(objectPath);
             return result1 && result2;
@@ -371,10 +1233,206 @@ public class CosMultiModel implements ObjectCloudStorage, ApplicationContextAwar
             return minioModel.createBucket(bucketName);
         }
         if (aliossConfig.isEnable() && minioConfig.isEnable()) {
-            final boolean result1 = aliossModel.createBucket(bucketName);
-            final boolean result2 = minioModel.createBucket(bucketName);
-            return result1 && result2;
+            return createBucketResult(bucketName).isSuccess();
         }
         return false;
     }
+
+    /**
+     * 创建数据桶, 返回各云存储的执行状态, 不经过异步复制
+     *
+     * @param bucketName 桶名称
+     * @return 各云存储的执行状态, 未启用的一方为 DISABLED
+     */
+    public MultiWriteResult createBucketResult(String bucketName) {
+        return write(storage -> storage.createBucket(bucketName));
+    }
+
+    /**
+     * 异步上传对象
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, file);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, file);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                return writeAsync(Replicator.PUT, objectPath, storage -> storage.putObjectAsync(objectPath, file));
+            }
+            return aliossModel.putObjectAsync(objectPath, file)
+                    .thenCombine(minioModel.putObjectAsync(objectPath, file), (result1, result2) -> result1 && result2);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传流对象
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, inputStream, contentType);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, inputStream, contentType);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                return writeAsync(Replicator.PUT, objectPath,
+                        storage -> storage.putObjectAsync(objectPath, inputStream, contentType));
+            }
+            final StreamTee tee = newStreamTee(inputStream);
+            final StreamTee.Branch branch1 = tee.branch(0);
+            final StreamTee.Branch branch2 = tee.branch(1);
+            return aliossModel.putObjectAsync(objectPath, branch1, contentType)
+                    .whenComplete((result, throwable) -> branch1.close())
+                    .thenCombine(minioModel.putObjectAsync(objectPath, branch2, contentType)
+                                    .whenComplete((result, throwable) -> branch2.close()),
+                            (result1, result2) -> result1 && result2)
+                    .whenComplete((result, throwable) -> tee.close());
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传字节数组对象
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, content, contentType);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, content, contentType);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                return writeAsync(Replicator.PUT, objectPath,
+                        storage -> storage.putObjectAsync(objectPath, content, contentType));
+            }
+            return aliossModel.putObjectAsync(objectPath, content, contentType)
+                    .thenCombine(minioModel.putObjectAsync(objectPath, content, contentType), (result1, result2) -> result1 && result2);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象复制
+     *
+     * @param sourceObject 源对象路径名称
+     * @param targetObject 目标对象路径名称
+     * @param isCover      是否覆盖
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> copyObjectAsync(String sourceObject, String targetObject, boolean isCover) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.copyObjectAsync(sourceObject, targetObject, isCover);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.copyObjectAsync(sourceObject, targetObject, isCover);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                return writeAsync(Replicator.PUT, targetObject,
+                        storage -> storage.copyObjectAsync(sourceObject, targetObject, isCover));
+            }
+            return aliossModel.copyObjectAsync(sourceObject, targetObject, isCover)
+                    .thenCombine(minioModel.copyObjectAsync(sourceObject, targetObject, isCover), (result1, result2) -> result1 && result2);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.getObjectAsync(objectPath);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.getObjectAsync(objectPath);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            // 启用异步复制时先读主云存储, 从云存储可能尚未复制完成
+            final CosStorage first = replicator == null || ReadRouter.OSS.equals(replicator.getPrimaryName()) ?
+                    aliossModel : minioModel;
+            final CosStorage second = first == aliossModel ? minioModel : aliossModel;
+            return first.getObjectAsync(objectPath).thenCompose(cosObject -> hasContent(cosObject) ?
+                    CompletableFuture.completedFuture(cosObject) : second.getObjectAsync(objectPath));
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 异步对象删除
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.deleteObjectAsync(objectPath);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.deleteObjectAsync(objectPath);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                return writeAsync(Replicator.DELETE, objectPath, storage -> storage.deleteObjectAsync(objectPath));
+            }
+            return aliossModel.deleteObjectAsync(objectPath)
+                    .thenCombine(minioModel.deleteObjectAsync(objectPath), (result1, result2) -> result1 && result2);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步判断对象是否存在
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        if (aliossConfig.isEnable() && !minioConfig.isEnable()) {
+            return aliossModel.isObjectExistAsync(objectPath);
+        }
+        if (minioConfig.isEnable() && !aliossConfig.isEnable()) {
+            return minioModel.isObjectExistAsync(objectPath);
+        }
+        if (aliossConfig.isEnable() && minioConfig.isEnable()) {
+            if (replicator != null) {
+                // 从云存储可能尚未复制完成, 以主云存储为准
+                return (ReadRouter.OSS.equals(replicator.getPrimaryName()) ? aliossModel : minioModel)
+                        .isObjectExistAsync(objectPath);
+            }
+            return aliossModel.isObjectExistAsync(objectPath)
+                    .thenCombine(minioModel.isObjectExistAsync(objectPath), (result1, result2) -> result1 && result2);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
 }
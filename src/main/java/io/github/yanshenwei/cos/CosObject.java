@@ -18,6 +18,23 @@ public class CosObject {
 
     private String contentType;
 
+    private String etag;
+
+    /**
+     * 本次返回内容在对象中的起始位置(包含), 非范围读取时为 null
+     */
+    private Long rangeStart;
+
+    /**
+     * 本次返回内容在对象中的结束位置(包含), 非范围读取时为 null
+     */
+    private Long rangeEnd;
+
+    /**
+     * 对象总长度
+     */
+    private Long totalLength;
+
     public InputStream getInputStream() {
         return inputStream;
     }
@@ -50,12 +67,79 @@ public class CosObject {
         this.contentType = contentType;
     }
 
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public Long getRangeStart() {
+        return rangeStart;
+    }
+
+    public void setRangeStart(Long rangeStart) {
+        this.rangeStart = rangeStart;
+    }
+
+    public Long getRangeEnd() {
+        return rangeEnd;
+    }
+
+    public void setRangeEnd(Long rangeEnd) {
+        this.rangeEnd = rangeEnd;
+    }
+
+    public Long getTotalLength() {
+        return totalLength;
+    }
+
+    public void setTotalLength(Long totalLength) {
+        this.totalLength = totalLength;
+    }
+
+    /**
+     * 是否为范围读取结果
+     *
+     * @return 是否为范围读取结果
+     */
+    public boolean isRange() {
+        return rangeStart != null;
+    }
+
+    /**
+     * 按响应头设置范围信息, 无 Content-Range 时视为完整对象
+     *
+     * @param contentRange 响应头 Content-Range, 如 bytes 0-99/1000
+     */
+    void applyContentRange(String contentRange) {
+        if (contentRange == null || !contentRange.startsWith("bytes ")) {
+            this.totalLength = contentLength;
+            return;
+        }
+        final int dash = contentRange.indexOf('-');
+        final int slash = contentRange.indexOf('/');
+        if (dash < 0 || slash < dash) {
+            this.totalLength = contentLength;
+            return;
+        }
+        this.rangeStart = Long.parseLong(contentRange.substring("bytes ".length(), dash).trim());
+        this.rangeEnd = Long.parseLong(contentRange.substring(dash + 1, slash).trim());
+        final String total = contentRange.substring(slash + 1).trim();
+        this.totalLength = "*".equals(total) ? null : Long.parseLong(total);
+    }
+
     @Override
     public String toString() {
         return "CosObject{" +
                 "inputStream=" + inputStream +
                 ", contentLength=" + contentLength +
                 ", contentType=" + contentType +
+                ", etag=" + etag +
+                ", rangeStart=" + rangeStart +
+                ", rangeEnd=" + rangeEnd +
+                ", totalLength=" + totalLength +
                 '}';
     }
 }
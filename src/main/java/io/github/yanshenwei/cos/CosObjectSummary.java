@@ -0,0 +1,79 @@
+package io.github.yanshenwei.cos;
+
+import java.util.Date;
+
+/**********************************
+ * @Author YSW
+ * @Description 列举对象的条目(不含对象内容); 指定分隔符时, 分隔符之后仍有层级的路径合并为一个目录条目
+ * @Date 2026/10/18 - 20:10
+ **********************************/
+
+public class CosObjectSummary {
+
+    /**
+     * 对象存储路径(不含全局前缀, 可直接用于其他对象操作); 目录条目以分隔符结尾
+     */
+    private String path;
+
+    private long size;
+
+    private String etag;
+
+    private Date lastModified;
+
+    /**
+     * 是否为目录条目(公共前缀), 目录条目没有大小 / ETag / 修改时间
+     */
+    private boolean directory;
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    public Date getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(Date lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public boolean isDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(boolean directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public String toString() {
+        return "CosObjectSummary{" +
+                "path='" + path + '\'' +
+                ", size=" + size +
+                ", etag='" + etag + '\'' +
+                ", lastModified=" + lastModified +
+                ", directory=" + directory +
+                '}';
+    }
+}
@@ -9,8 +9,14 @@ import org.springframework.stereotype.Component;
 import javax.annotation.Resource;
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**********************************
  * @Author YSW
@@ -19,7 +25,7 @@ import java.util.List;
  **********************************/
 
 @Component
-public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAware {
+public class CosSimpleModel implements ObjectCloudStorage, AsyncObjectCloudStorage, ApplicationContextAware {
 
     @Resource
     private CosConstants.AliossConfig aliossConfig;
@@ -27,20 +33,21 @@ public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAwa
     @Resource
     private CosConstants.MinioConfig minioConfig;
 
-    private MinioModel minioModel;
+    private CosStorage minioModel;
 
-    private AliossModel aliossModel;
+    private CosStorage aliossModel;
 
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         List<String> beanList = Arrays.asList(applicationContext.getBeanDefinitionNames());
+        final CosCacheManager cacheManager = applicationContext.getBean(CosCacheManager.class);
         //noinspection AlibabaUndefineMagicConstant
         if (beanList.contains("aliossModel")){
-            aliossModel = applicationContext.getBean(AliossModel.class);
+            aliossModel = cacheManager.decorate(ReadRouter.OSS, applicationContext.getBean(AliossModel.class));
         }
         //noinspection AlibabaUndefineMagicConstant
         if (beanList.contains("minioModel")){
-            minioModel = applicationContext.getBean(MinioModel.class);
+            minioModel = cacheManager.decorate(ReadRouter.MINIO, applicationContext.getBean(MinioModel.class));
         }
     }
 
@@ -118,6 +125,65 @@ public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAwa
         return false;
     }
 
+    /**
+     * 按覆盖策略上传对象
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @param condition  覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, File file, PutCondition condition) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, file, condition);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObject(objectPath, file, condition);
+        }
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传流对象
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, inputStream, contentType, condition);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObject(objectPath, inputStream, contentType, condition);
+        }
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传字节数组对象
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObject(objectPath, content, contentType, condition);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObject(objectPath, content, contentType, condition);
+        }
+        return false;
+    }
+
     /**
      * 上传可追加字节流对象
      *
@@ -208,6 +274,114 @@ public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAwa
         return null;
     }
 
+    /**
+     * 对象范围获取
+     *
+     * @param objectPath 对象存储路径
+     * @param offset     起始位置
+     * @param length     读取长度, 小于 0 时读取到对象末尾
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObject(String objectPath, long offset, long length) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.getObject(objectPath, offset, length);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.getObject(objectPath, offset, length);
+        }
+        return null;
+    }
+
+    /**
+     * 对象末尾范围获取
+     *
+     * @param objectPath   对象存储路径
+     * @param suffixLength 读取对象最后 suffixLength 个字节
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.getObjectSuffix(objectPath, suffixLength);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.getObjectSuffix(objectPath, suffixLength);
+        }
+        return null;
+    }
+
+    /**
+     * 对象元数据获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 对象元数据, 对象不存在时返回 null
+     */
+    @Override
+    public CosObject statObject(String objectPath) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.statObject(objectPath);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.statObject(objectPath);
+        }
+        return null;
+    }
+
+    /**
+     * 多连接分段下载对象到本地文件
+     *
+     * @param objectPath 对象存储路径
+     * @param target     本地目标文件
+     * @return 操作结果
+     */
+    @Override
+    public boolean downloadToFile(String objectPath, Path target) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.downloadToFile(objectPath, target);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.downloadToFile(objectPath, target);
+        }
+        return false;
+    }
+
+    /**
+     * 对象内容写入通道
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标通道
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.transferTo(objectPath, target);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.transferTo(objectPath, target);
+        }
+        return false;
+    }
+
+    /**
+     * 对象内容写入输出流
+     *
+     * @param objectPath 对象存储路径
+     * @param target     目标输出流
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.transferTo(objectPath, target);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.transferTo(objectPath, target);
+        }
+        return false;
+    }
+
     @Override
     public CosObject getUrlObject(String objectUrl) {
         if (aliossConfig.isEnable()) {
@@ -236,6 +410,79 @@ public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAwa
         return false;
     }
 
+    /**
+     * 批量删除对象
+     *
+     * @param objectPaths 对象存储路径
+     * @return 删除结果(含各对象的失败原因)
+     */
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.deleteObjects(objectPaths);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.deleteObjects(objectPaths);
+        }
+        return null;
+    }
+
+    /**
+     * 列举对象
+     *
+     * @param prefix    路径前缀
+     * @param delimiter 分隔符, 为空时递归列举
+     * @return 对象条目流
+     */
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.listObjects(prefix, delimiter);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.listObjects(prefix, delimiter);
+        }
+        return null;
+    }
+
+    /**
+     * 复制前缀下的全部对象
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 复制结果
+     */
+    @Override
+    public PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.copyPrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.copyPrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        return null;
+    }
+
+    /**
+     * 移动前缀下的全部对象
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 移动结果
+     */
+    @Override
+    public PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.movePrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.movePrefix(sourcePrefix, targetPrefix, overwrite);
+        }
+        return null;
+    }
+
     /**
      * 对象是否存在
      *
@@ -312,4 +559,130 @@ public class CosSimpleModel implements ObjectCloudStorage, ApplicationContextAwa
         }
         return false;
     }
+
+    /**
+     * 异步上传对象
+     *
+     * @param objectPath 对象存储路径
+     * @param file       文件对象
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, file);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, file);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传流对象
+     *
+     * @param objectPath  对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, inputStream, contentType);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, inputStream, contentType);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步上传字节数组对象
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.putObjectAsync(objectPath, content, contentType);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.putObjectAsync(objectPath, content, contentType);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象复制
+     *
+     * @param sourceObject 源对象路径名称
+     * @param targetObject 目标对象路径名称
+     * @param isCover      是否覆盖
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> copyObjectAsync(String sourceObject, String targetObject, boolean isCover) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.copyObjectAsync(sourceObject, targetObject, isCover);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.copyObjectAsync(sourceObject, targetObject, isCover);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步对象获取
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.getObjectAsync(objectPath);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.getObjectAsync(objectPath);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 异步对象删除
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.deleteObjectAsync(objectPath);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.deleteObjectAsync(objectPath);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
+
+    /**
+     * 异步判断对象是否存在
+     *
+     * @param objectPath 对象存储路径
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        if (aliossConfig.isEnable()) {
+            return aliossModel.isObjectExistAsync(objectPath);
+        }
+        if (minioConfig.isEnable()) {
+            return minioModel.isObjectExistAsync(objectPath);
+        }
+        return CompletableFuture.completedFuture(false);
+    }
 }
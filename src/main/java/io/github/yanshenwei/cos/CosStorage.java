@@ -0,0 +1,10 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 单个云存储的同步与异步操作, 由各云存储实现及其缓存装饰实现
+ * @Date 2026/10/18 - 17:30
+ **********************************/
+
+interface CosStorage extends ObjectCloudStorage, AsyncObjectCloudStorage {
+}
@@ -0,0 +1,366 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**********************************
+ * @Author YSW
+ * @Description 本地磁盘读穿缓存: getObject 先取对象元数据, 以 云存储+路径+ETag 为键查找本地缓存文件,
+ * 命中时以内存映射文件返回对象; 未命中时从云存储下载到临时文件再原子改名加入缓存.
+ * 命中后记录路径对应的 ETag, 重新校验间隔内再次读取直接返回缓存文件, 不再查询元数据.
+ * 按总字节数上限 LRU 淘汰, 本客户端写入或删除对象时删除对应缓存文件;
+ * 对象被其他客户端修改后 ETag 变化, 超过重新校验间隔(及元数据缓存有效期)后不会读到旧内容
+ * @Date 2026/10/18 - 18:10
+ **********************************/
+
+class DiskCachingStorage extends ForwardingCosStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCachingStorage.class);
+
+    static final String TIER = "disk";
+
+    private static final String SUFFIX = ".cache";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final String backend;
+
+    private final Path dir;
+
+    private final long maxBytes;
+
+    private final long maxObjectSize;
+
+    /**
+     * 缓存文件名 -> 文件大小, 按访问顺序排列
+     */
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long revalidateNanos;
+
+    /**
+     * 本次运行中读取过的对象路径 -> 缓存文件及校验时间, 用于跳过元数据查询, 以及写入或删除对象时及时释放空间
+     */
+    private final Map<String, Entry> fileByPath = new HashMap<>();
+
+    private long bytes;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param revalidateTtl 缓存文件对应 ETag 的重新校验间隔(毫秒), 不大于 0 时每次读取都查询对象元数据
+     */
+    DiskCachingStorage(String backend, CosStorage delegate, Path dir, long maxBytes, long maxObjectSize,
+                       long revalidateTtl) throws IOException {
+        super(delegate);
+        this.backend = backend;
+        this.revalidateNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, revalidateTtl));
+        this.dir = dir.resolve(backend);
+        this.maxBytes = maxBytes;
+        // 单个映射缓冲区不能超过 2GB
+        this.maxObjectSize = Math.min(Math.min(maxObjectSize, maxBytes), Integer.MAX_VALUE);
+        Files.createDirectories(this.dir);
+        load();
+    }
+
+    /**
+     * 加载已有缓存文件(按修改时间作为访问顺序), 删除中断留下的临时文件
+     */
+    private void load() throws IOException {
+        final List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path file : stream) {
+                final String name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    existing.add(file);
+                } else if (name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        existing.sort((a, b) -> {
+            try {
+                return Files.getLastModifiedTime(a).compareTo(Files.getLastModifiedTime(b));
+            } catch (IOException e) {
+                return 0;
+            }
+        });
+        synchronized (files) {
+            for (Path file : existing) {
+                final long size = Files.readAttributes(file, BasicFileAttributes.class).size();
+                files.put(file.getFileName().toString(), size);
+                bytes += size;
+            }
+            evict(0);
+        }
+        if (!existing.isEmpty()) {
+            log.info(backend + " 磁盘缓存已加载 " + existing.size() + " 个文件, 共 " + bytes + " 字节");
+        }
+    }
+
+    @Override
+    public CosObject getObject(String objectPath) {
+        final String key = cacheKey(objectPath);
+        final Entry validated = validated(key);
+        if (validated != null) {
+            final CosObject cached = open(validated.name, validated.stat);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        final CosObject stat = delegate.statObject(objectPath);
+        if (stat == null || stat.getEtag() == null) {
+            misses.incrementAndGet();
+            return delegate.getObject(objectPath);
+        }
+        final String name = fileName(key, stat.getEtag());
+        final CosObject cached = open(name, stat);
+        if (cached != null) {
+            hits.incrementAndGet();
+            validate(key, name, stat);
+            return cached;
+        }
+        misses.incrementAndGet();
+        final CosObject cosObject = delegate.getObject(objectPath);
+        if (cosObject == null || cosObject.getInputStream() == null
+                || !etag(stat.getEtag()).equals(etag(cosObject.getEtag()))
+                || cosObject.getContentLength() == null || cosObject.getContentLength() > maxObjectSize) {
+            // 读取期间对象已变化或超出单个对象上限时不缓存
+            return cosObject;
+        }
+        try {
+            store(name, cosObject);
+        } catch (IOException e) {
+            log.error("对象 [" + objectPath + "] 写入磁盘缓存失败 " + e.getMessage());
+            return delegate.getObject(objectPath);
+        }
+        final CosObject stored = open(name, cosObject);
+        if (stored == null) {
+            return delegate.getObject(objectPath);
+        }
+        validate(key, name, cosObject);
+        return stored;
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    @Override
+    protected void written(String objectPath) {
+        final String name;
+        synchronized (files) {
+            final Entry entry = fileByPath.remove(objectPath);
+            if (entry == null) {
+                return;
+            }
+            name = entry.name;
+            final Long size = files.remove(name);
+            if (size != null) {
+                bytes -= size;
+            }
+        }
+        delete(name);
+    }
+
+    @Override
+    protected void writtenPrefix(String prefix) {
+        final List<String> paths;
+        synchronized (files) {
+            paths = new ArrayList<>();
+            fileByPath.keySet().forEach(path -> {
+                if (path.startsWith(prefix)) {
+                    paths.add(path);
+                }
+            });
+        }
+        paths.forEach(this::written);
+    }
+
+    CacheStats stats() {
+        synchronized (files) {
+            return new CacheStats(backend, TIER, hits.get(), misses.get(), evictions.get(), bytes, maxBytes);
+        }
+    }
+
+    /**
+     * 下载对象到同目录临时文件, 校验长度后原子改名为缓存文件
+     */
+    private void store(String name, CosObject cosObject) throws IOException {
+        final long length = cosObject.getContentLength();
+        final Path temp = Files.createTempFile(dir, name, TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                if (!ObjectTransfer.transfer(cosObject, channel)) {
+                    throw new IOException("下载失败");
+                }
+                if (channel.size() != length) {
+                    throw new IOException("长度不一致 " + channel.size() + " != " + length);
+                }
+                channel.force(false);
+            }
+            synchronized (files) {
+                evict(length);
+                Files.move(temp, dir.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                final Long previous = files.put(name, length);
+                bytes += length - (previous != null ? previous : 0);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 重新校验间隔内的缓存文件, 已过期或未记录时返回 null
+     */
+    private Entry validated(String objectPath) {
+        if (revalidateNanos == 0) {
+            return null;
+        }
+        synchronized (files) {
+            final Entry entry = fileByPath.get(objectPath);
+            return entry != null && System.nanoTime() - entry.validatedAt < revalidateNanos ? entry : null;
+        }
+    }
+
+    /**
+     * 记录对象路径当前对应的缓存文件; 已被淘汰的文件不记录
+     */
+    private void validate(String objectPath, String name, CosObject stat) {
+        final CosObject meta = new CosObject();
+        meta.setPath(stat.getPath());
+        meta.setContentType(stat.getContentType());
+        meta.setEtag(stat.getEtag());
+        synchronized (files) {
+            if (files.containsKey(name)) {
+                fileByPath.put(objectPath, new Entry(name, meta, System.nanoTime()));
+            }
+        }
+    }
+
+    /**
+     * 以内存映射方式打开缓存文件, 不存在时返回 null
+     */
+    private CosObject open(String name, CosObject meta) {
+        synchronized (files) {
+            if (files.get(name) == null) {
+                return null;
+            }
+        }
+        try (FileChannel channel = FileChannel.open(dir.resolve(name), StandardOpenOption.READ)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            final CosObject cosObject = new CosObject();
+            cosObject.setInputStream(new ByteBufferInputStream(buffer));
+            cosObject.setPath(meta.getPath());
+            cosObject.setContentLength(channel.size());
+            cosObject.setTotalLength(channel.size());
+            cosObject.setContentType(meta.getContentType());
+            cosObject.setEtag(meta.getEtag());
+            return cosObject;
+        } catch (IOException e) {
+            // 缓存文件已被淘汰或删除
+            synchronized (files) {
+                final Long size = files.remove(name);
+                if (size != null) {
+                    bytes -= size;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 淘汰最久未访问的文件, 直到可以再放入 incoming 字节(调用方持有 files 锁)
+     */
+    private void evict(long incoming) {
+        final Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+        while (bytes + incoming > maxBytes && iterator.hasNext()) {
+            final Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            bytes -= eldest.getValue();
+            fileByPath.values().removeIf(entry -> entry.name.equals(eldest.getKey()));
+            evictions.incrementAndGet();
+            delete(eldest.getKey());
+        }
+    }
+
+    private void delete(String name) {
+        try {
+            // 已映射的缓冲区在删除后仍可读取
+            Files.deleteIfExists(dir.resolve(name));
+        } catch (IOException e) {
+            log.error("磁盘缓存文件 [" + name + "] 删除失败 " + e.getMessage());
+        }
+    }
+
+    private static String etag(String etag) {
+        return etag == null ? "" : etag.replace("\"", "");
+    }
+
+    private String fileName(String objectPath, String etag) {
+        final String key = backend + "\n" + objectPath + "\n" + etag(etag);
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder name = new StringBuilder(digest.length * 2 + SUFFIX.length());
+            for (byte b : digest) {
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return name.append(SUFFIX).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String name;
+
+        /**
+         * 校验时的对象元数据(不含对象流)
+         */
+        private final CosObject stat;
+
+        private final long validatedAt;
+
+        private Entry(String name, CosObject stat, long validatedAt) {
+            this.name = name;
+            this.stat = stat;
+            this.validatedAt = validatedAt;
+        }
+    }
+}
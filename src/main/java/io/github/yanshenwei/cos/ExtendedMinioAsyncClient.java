@@ -0,0 +1,104 @@
+package io.github.yanshenwei.cos;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import io.minio.MinioAsyncClient;
+import io.minio.errors.*;
+import io.minio.messages.ListBucketResultV2;
+import io.minio.messages.Part;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**********************************
+ * @Author YSW
+ * @Description minio 异步客户端, 开放分片上传及分页列举相关的底层接口
+ * @Date 2026/10/18 - 10:40
+ **********************************/
+
+class ExtendedMinioAsyncClient extends MinioAsyncClient {
+
+    ExtendedMinioAsyncClient(MinioAsyncClient client) {
+        super(client);
+    }
+
+    String createMultipartUpload(String bucket, String object, Map<String, String> headers)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        return join(createMultipartUploadAsync(bucket, null, object, toMultimap(headers), null)).result().uploadId();
+    }
+
+    String uploadPart(String bucket, String object, String uploadId, int partNumber, byte[] data, int length)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        return join(uploadPartAsync(bucket, null, object, data, length, uploadId, partNumber, null, null)).etag();
+    }
+
+    void completeMultipartUpload(String bucket, String object, String uploadId, List<String> etags,
+                                 Map<String, String> headers)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        final Part[] parts = new Part[etags.size()];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new Part(i + 1, etags.get(i));
+        }
+        join(completeMultipartUploadAsync(bucket, null, object, uploadId, parts, toMultimap(headers), null));
+    }
+
+    void abortMultipartUpload(String bucket, String object, String uploadId)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        join(abortMultipartUploadAsync(bucket, null, object, uploadId, null, null));
+    }
+
+    /**
+     * 列举一页对象(ListObjectsV2)
+     *
+     * @param continuationToken 续传标记, 第一页为 null
+     */
+    ListBucketResultV2 listObjectsPage(String bucket, String prefix, String delimiter, String continuationToken,
+                                       int maxKeys)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        return join(listObjectsV2Async(bucket, null, delimiter, null, null, maxKeys, prefix, continuationToken,
+                false, false, null, null)).result();
+    }
+
+    /**
+     * 等待异步请求完成, 还原请求中的异常(同 MinioClient 的同步接口)
+     */
+    private <T> T join(CompletableFuture<T> future)
+            throws ServerException, InsufficientDataException, ErrorResponseException, IOException,
+            NoSuchAlgorithmException, InvalidKeyException, InvalidResponseException, XmlParserException,
+            InternalException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("请求被中断");
+        } catch (ExecutionException e) {
+            throwEncapsulatedException(e);
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Multimap<String, String> toMultimap(Map<String, String> headers) {
+        final Multimap<String, String> multimap = HashMultimap.create();
+        if (headers != null) {
+            headers.forEach(multimap::put);
+        }
+        return multimap;
+    }
+}
@@ -0,0 +1,267 @@
+package io.github.yanshenwei.cos;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**********************************
+ * @Author YSW
+ * @Description 云存储装饰基类: 全部操作转发给被装饰的云存储, 写操作(上传, 追加, 复制的目标对象, 删除)
+ * 执行后回调 {@link #written(String)}, 前缀复制 / 移动后回调 {@link #writtenPrefix(String)}, 供缓存装饰失效对应对象;
+ * 回调参数与缓存键均经 {@link #cacheKey(String)} 规范化, "a/b" 与 "/a//b" 指向同一对象
+ * @Date 2026/10/18 - 17:30
+ **********************************/
+
+abstract class ForwardingCosStorage implements CosStorage {
+
+    protected final CosStorage delegate;
+
+    protected ForwardingCosStorage(CosStorage delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 对象已被本客户端写入或删除(无论成功与否)
+     *
+     * @param objectPath 对象存储路径(已规范化)
+     */
+    protected abstract void written(String objectPath);
+
+    /**
+     * 前缀下的对象已被本客户端批量写入或删除
+     *
+     * @param prefix 路径前缀(已规范化)
+     */
+    protected abstract void writtenPrefix(String prefix);
+
+    /**
+     * 缓存键: 与各云存储格式化对象路径的方式一致, 合并连续的 "/" 并去掉开头的 "/"
+     *
+     * @param objectPath 对象存储路径或路径前缀
+     * @return 规范化的路径, objectPath 为 null 时返回 null
+     */
+    static String cacheKey(String objectPath) {
+        if (objectPath == null) {
+            return null;
+        }
+        final String path = objectPath.replaceAll("/+", "/");
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * 失效本层及内层装饰中的对象, 用于绕过装饰写入的场景
+     */
+    void invalidate(String objectPath) {
+        written(cacheKey(objectPath));
+        if (delegate instanceof ForwardingCosStorage) {
+            ((ForwardingCosStorage) delegate).invalidate(objectPath);
+        }
+    }
+
+    private static String prefixKey(String prefix) {
+        return cacheKey(prefix == null ? "" : prefix);
+    }
+
+    private boolean written(String objectPath, boolean result) {
+        written(cacheKey(objectPath));
+        return result;
+    }
+
+    private CompletableFuture<Boolean> written(String objectPath, CompletableFuture<Boolean> future) {
+        return future.whenComplete((result, throwable) -> written(cacheKey(objectPath)));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, File file) {
+        return written(objectPath, delegate.putObject(objectPath, file));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType) {
+        return written(objectPath, delegate.putObject(objectPath, inputStream, contentType));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, byte[] content) {
+        return written(objectPath, delegate.putObject(objectPath, content));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType) {
+        return written(objectPath, delegate.putObject(objectPath, content, contentType));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, File file, PutCondition condition) {
+        return written(objectPath, delegate.putObject(objectPath, file, condition));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
+        return written(objectPath, delegate.putObject(objectPath, inputStream, contentType, condition));
+    }
+
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
+        return written(objectPath, delegate.putObject(objectPath, content, contentType, condition));
+    }
+
+    @Override
+    public boolean pudAppendableObject(String objectPath, byte[] content) {
+        return written(objectPath, delegate.pudAppendableObject(objectPath, content));
+    }
+
+    @Override
+    public boolean appendObject(String objectPath, byte[] content) {
+        return written(objectPath, delegate.appendObject(objectPath, content));
+    }
+
+    @Override
+    public boolean copyObject(String sourceObject, String targetObject) {
+        return written(targetObject, delegate.copyObject(sourceObject, targetObject));
+    }
+
+    @Override
+    public boolean copyObject(String sourceObject, String targetObject, boolean isCover) {
+        return written(targetObject, delegate.copyObject(sourceObject, targetObject, isCover));
+    }
+
+    @Override
+    public CosObject getObject(String objectPath) {
+        return delegate.getObject(objectPath);
+    }
+
+    @Override
+    public CosObject getObject(String objectPath, long offset, long length) {
+        return delegate.getObject(objectPath, offset, length);
+    }
+
+    @Override
+    public CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        return delegate.getObjectSuffix(objectPath, suffixLength);
+    }
+
+    @Override
+    public CosObject statObject(String objectPath) {
+        return delegate.statObject(objectPath);
+    }
+
+    @Override
+    public boolean downloadToFile(String objectPath, Path target) {
+        return delegate.downloadToFile(objectPath, target);
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return delegate.transferTo(objectPath, target);
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return delegate.transferTo(objectPath, target);
+    }
+
+    @Override
+    public CosObject getUrlObject(String objectUrl) {
+        return delegate.getUrlObject(objectUrl);
+    }
+
+    @Override
+    public boolean deleteObject(String objectPath) {
+        return written(objectPath, delegate.deleteObject(objectPath));
+    }
+
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        final BatchDeleteResult result = delegate.deleteObjects(objectPaths);
+        if (objectPaths != null) {
+            objectPaths.forEach(objectPath -> written(cacheKey(objectPath)));
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        return delegate.listObjects(prefix, delimiter);
+    }
+
+    @Override
+    public PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        final PrefixCopyResult result = delegate.copyPrefix(sourcePrefix, targetPrefix, overwrite);
+        writtenPrefix(prefixKey(targetPrefix));
+        return result;
+    }
+
+    @Override
+    public PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        final PrefixCopyResult result = delegate.movePrefix(sourcePrefix, targetPrefix, overwrite);
+        writtenPrefix(prefixKey(targetPrefix));
+        writtenPrefix(prefixKey(sourcePrefix));
+        return result;
+    }
+
+    @Override
+    public boolean isObjectExist(String objectPath) {
+        return delegate.isObjectExist(objectPath);
+    }
+
+    @Override
+    public String getObjectUrl(String objectPath) {
+        return delegate.getObjectUrl(objectPath);
+    }
+
+    @Override
+    public String objectUrlToPath(String objectUrl) {
+        return delegate.objectUrlToPath(objectUrl);
+    }
+
+    @Override
+    public boolean isBucketExists(String bucketName) {
+        return delegate.isBucketExists(bucketName);
+    }
+
+    @Override
+    public boolean createBucket(String bucketName) {
+        return delegate.createBucket(bucketName);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        return written(objectPath, delegate.putObjectAsync(objectPath, file));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        return written(objectPath, delegate.putObjectAsync(objectPath, inputStream, contentType));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        return written(objectPath, delegate.putObjectAsync(objectPath, content, contentType));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> copyObjectAsync(String sourceObject, String targetObject, boolean isCover) {
+        return written(targetObject, delegate.copyObjectAsync(sourceObject, targetObject, isCover));
+    }
+
+    @Override
+    public CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        return delegate.getObjectAsync(objectPath);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        return written(objectPath, delegate.deleteObjectAsync(objectPath));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        return delegate.isObjectExistAsync(objectPath);
+    }
+}
@@ -0,0 +1,395 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**********************************
+ * @Author YSW
+ * @Description 堆外内存缓存: 小对象内容保存在直接内存 slab 中, 不增加 GC 压力.
+ * slab 按固定大小申请, 切分为若干规格的内存块, 对象放入不小于其长度的最小规格块;
+ * 总量达到上限后在同规格内淘汰最久未访问且未被读取的对象.
+ * 命中时以元数据 ETag 校验后返回只读视图, 校验结果在重新校验间隔内有效, 间隔内再次命中不查询元数据.
+ * 对象流关闭前该内存块不会被复用; 未关闭即被回收的对象流由虚引用发现, 在下次申请内存块时释放
+ * @Date 2026/10/18 - 18:40
+ **********************************/
+
+class MemoryCachingStorage extends ForwardingCosStorage {
+
+    private static final Logger log = LoggerFactory.getLogger(MemoryCachingStorage.class);
+
+    static final String TIER = "memory";
+
+    private static final int SLAB_SIZE = 1024 * 1024;
+
+    private static final int MIN_CHUNK_SIZE = 1024;
+
+    /**
+     * 相邻规格的增长系数
+     */
+    private static final double GROWTH_FACTOR = 1.25;
+
+    private final String backend;
+
+    private final long maxBytes;
+
+    private final int maxObjectSize;
+
+    private final int slabSize;
+
+    private final int maxSlabs;
+
+    private final List<SizeClass> classes = new ArrayList<>();
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private final long revalidateNanos;
+
+    /**
+     * 尚未关闭的只读视图
+     */
+    private final Set<ViewReference> views = new HashSet<>();
+
+    /**
+     * 未关闭即被回收的只读视图
+     */
+    private final ReferenceQueue<InputStream> unclosed = new ReferenceQueue<>();
+
+    private int slabs;
+
+    private long bytes;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param revalidateTtl 缓存条目 ETag 的重新校验间隔(毫秒), 不大于 0 时每次读取都查询对象元数据
+     */
+    MemoryCachingStorage(String backend, CosStorage delegate, long maxBytes, int maxObjectSize, long revalidateTtl) {
+        super(delegate);
+        this.backend = backend;
+        this.revalidateNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, revalidateTtl));
+        this.maxBytes = maxBytes;
+        this.maxObjectSize = Math.max(1, maxObjectSize);
+        this.slabSize = Math.max(SLAB_SIZE, this.maxObjectSize);
+        this.maxSlabs = (int) Math.max(1, maxBytes / slabSize);
+        int size = MIN_CHUNK_SIZE;
+        while (size < this.maxObjectSize) {
+            classes.add(new SizeClass(size));
+            size = (int) Math.min(this.maxObjectSize, (long) (size * GROWTH_FACTOR + 7) & ~7L);
+        }
+        classes.add(new SizeClass(size));
+    }
+
+    @Override
+    public CosObject getObject(String objectPath) {
+        final String key = cacheKey(objectPath);
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.validatedAt < revalidateNanos) {
+                hits.incrementAndGet();
+                entry.sizeClass.lru.get(key);
+                return view(entry);
+            }
+        }
+        final CosObject stat = delegate.statObject(objectPath);
+        if (stat == null || stat.getEtag() == null || stat.getContentLength() == null) {
+            discard(key, null);
+            misses.incrementAndGet();
+            return delegate.getObject(objectPath);
+        }
+        if (stat.getContentLength() > maxObjectSize) {
+            return delegate.getObject(objectPath);
+        }
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null && entry.etag.equals(stat.getEtag())) {
+                hits.incrementAndGet();
+                entry.validatedAt = System.nanoTime();
+                entry.sizeClass.lru.get(key);
+                return view(entry);
+            }
+        }
+        misses.incrementAndGet();
+        final CosObject cosObject = delegate.getObject(objectPath);
+        if (cosObject == null || cosObject.getInputStream() == null || cosObject.getContentLength() == null
+                || !stat.getContentLength().equals(cosObject.getContentLength())) {
+            return cosObject;
+        }
+        return store(key, stat.getEtag(), cosObject);
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    @Override
+    protected void written(String objectPath) {
+        discard(objectPath, null);
+    }
+
+    @Override
+    protected synchronized void writtenPrefix(String prefix) {
+        final List<Entry> removed = new ArrayList<>();
+        entries.forEach((path, entry) -> {
+            if (path.startsWith(prefix)) {
+                removed.add(entry);
+            }
+        });
+        removed.forEach(this::remove);
+    }
+
+    synchronized CacheStats stats() {
+        return new CacheStats(backend, TIER, hits.get(), misses.get(), evictions.get(), bytes, maxBytes);
+    }
+
+    /**
+     * 读取对象内容到内存块; 内存块不足(全部被占用)时原样返回对象
+     */
+    private CosObject store(String objectPath, String etag, CosObject cosObject) {
+        final int length = cosObject.getContentLength().intValue();
+        final SizeClass sizeClass = sizeClass(length);
+        final ByteBuffer chunk;
+        synchronized (this) {
+            chunk = allocate(sizeClass);
+        }
+        if (chunk == null) {
+            return cosObject;
+        }
+        chunk.clear();
+        final byte[] buffer = new byte[Math.min(length, 8192)];
+        try (InputStream inputStream = cosObject.getInputStream()) {
+            int read;
+            while (chunk.position() < length
+                    && (read = inputStream.read(buffer, 0, Math.min(buffer.length, length - chunk.position()))) >= 0) {
+                chunk.put(buffer, 0, read);
+            }
+            if (chunk.position() != length) {
+                throw new IOException("长度不一致 " + chunk.position() + " != " + length);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                sizeClass.free.push(chunk);
+            }
+            return delegate.getObject(objectPath);
+        }
+        final Entry entry = new Entry(objectPath, etag, cosObject.getContentType(), length, sizeClass, chunk);
+        synchronized (this) {
+            discard(objectPath, entry);
+            entries.put(objectPath, entry);
+            sizeClass.lru.put(objectPath, entry);
+            bytes += length;
+            return view(entry);
+        }
+    }
+
+    /**
+     * 移除对象的缓存条目(保留 keep), 正在被读取的条目在读取结束后释放内存块
+     */
+    private synchronized void discard(String objectPath, Entry keep) {
+        final Entry entry = entries.get(objectPath);
+        if (entry == null || entry == keep) {
+            return;
+        }
+        remove(entry);
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.path);
+        entry.sizeClass.lru.remove(entry.path);
+        bytes -= entry.length;
+        entry.removed = true;
+        if (entry.readers == 0) {
+            entry.sizeClass.free.push(entry.chunk);
+        }
+    }
+
+    /**
+     * 关闭只读视图, 条目已被移除且没有其他读取时释放内存块
+     */
+    private synchronized void release(ViewReference view) {
+        if (!views.remove(view)) {
+            return;
+        }
+        view.clear();
+        final Entry entry = view.entry;
+        entry.readers--;
+        if (entry.removed && entry.readers == 0) {
+            entry.sizeClass.free.push(entry.chunk);
+        }
+    }
+
+    /**
+     * 释放未关闭即被回收的只读视图占用的内存块(调用方持有锁)
+     */
+    private void reclaim() {
+        Reference<? extends InputStream> reference;
+        while ((reference = unclosed.poll()) != null) {
+            final ViewReference view = (ViewReference) reference;
+            if (views.contains(view)) {
+                log.warn("对象 [" + view.entry.path + "] 的缓存对象流未关闭即被回收, 已释放内存块");
+                release(view);
+            }
+        }
+    }
+
+    /**
+     * 获取内存块: 优先使用空闲块, 其次申请新 slab, 最后淘汰同规格最久未访问且未被读取的对象
+     */
+    private ByteBuffer allocate(SizeClass sizeClass) {
+        reclaim();
+        if (sizeClass.free.isEmpty() && slabs < maxSlabs) {
+            final ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+            slabs++;
+            for (int offset = 0; offset + sizeClass.chunkSize <= slabSize; offset += sizeClass.chunkSize) {
+                slab.limit(offset + sizeClass.chunkSize).position(offset);
+                sizeClass.free.push(slab.slice());
+            }
+        }
+        if (sizeClass.free.isEmpty()) {
+            final Iterator<Entry> iterator = sizeClass.lru.values().iterator();
+            while (iterator.hasNext()) {
+                final Entry eldest = iterator.next();
+                if (eldest.readers == 0) {
+                    remove(eldest);
+                    evictions.incrementAndGet();
+                    break;
+                }
+            }
+        }
+        return sizeClass.free.poll();
+    }
+
+    private SizeClass sizeClass(int length) {
+        for (SizeClass sizeClass : classes) {
+            if (length <= sizeClass.chunkSize) {
+                return sizeClass;
+            }
+        }
+        return classes.get(classes.size() - 1);
+    }
+
+    /**
+     * 返回条目内容的只读视图, 调用方持有锁
+     */
+    private CosObject view(Entry entry) {
+        entry.readers++;
+        final ByteBuffer content = entry.chunk.asReadOnlyBuffer();
+        content.clear().limit(entry.length);
+        final ViewStream stream = new ViewStream(content);
+        stream.view = new ViewReference(stream, unclosed, entry);
+        views.add(stream.view);
+        final CosObject cosObject = new CosObject();
+        cosObject.setInputStream(stream);
+        cosObject.setPath(entry.path);
+        cosObject.setContentLength((long) entry.length);
+        cosObject.setTotalLength((long) entry.length);
+        cosObject.setContentType(entry.contentType);
+        cosObject.setEtag(entry.etag);
+        return cosObject;
+    }
+
+    private static class SizeClass {
+
+        private final int chunkSize;
+
+        private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+
+        private final LinkedHashMap<String, Entry> lru = new LinkedHashMap<>(16, 0.75f, true);
+
+        SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static class Entry {
+
+        private final String path;
+
+        private final String etag;
+
+        private final String contentType;
+
+        private final int length;
+
+        private final SizeClass sizeClass;
+
+        private final ByteBuffer chunk;
+
+        /**
+         * 尚未关闭的只读视图数
+         */
+        private int readers;
+
+        private boolean removed;
+
+        /**
+         * 最近一次以元数据校验 ETag 的时间
+         */
+        private long validatedAt = System.nanoTime();
+
+        Entry(String path, String etag, String contentType, int length, SizeClass sizeClass, ByteBuffer chunk) {
+            this.path = path;
+            this.etag = etag;
+            this.contentType = contentType;
+            this.length = length;
+            this.sizeClass = sizeClass;
+            this.chunk = chunk;
+        }
+    }
+
+    private class ViewStream extends ByteBufferInputStream {
+
+        private ViewReference view;
+
+        ViewStream(ByteBuffer buffer) {
+            super(buffer);
+        }
+
+        @Override
+        public void close() {
+            release(view);
+        }
+    }
+
+    /**
+     * 只读视图的虚引用, 不持有对象流本身, 对象流被回收后进入引用队列
+     */
+    private static class ViewReference extends PhantomReference<InputStream> {
+
+        private final Entry entry;
+
+        ViewReference(InputStream stream, ReferenceQueue<InputStream> queue, Entry entry) {
+            super(stream, queue);
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package io.github.yanshenwei.cos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**********************************
+ * @Author YSW
+ * @Description 元数据缓存: 缓存 isObjectExist / statObject 结果, 按条数上限 LRU 淘汰, 存在与不存在分别按各自有效期过期;
+ * 本客户端写入或删除对象时失效对应条目, 写入期间开始的查询结果不写入缓存
+ * @Date 2026/10/18 - 17:40
+ **********************************/
+
+class MetadataCachingStorage extends ForwardingCosStorage {
+
+    static final String TIER = "metadata";
+
+    private final String backend;
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final long negativeTtlNanos;
+
+    private final Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * 每次失效递增, 查询开始后发生过失效时不缓存该查询结果
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    MetadataCachingStorage(String backend, CosStorage delegate, int maxEntries, long ttl, long negativeTtl) {
+        super(delegate);
+        this.backend = backend;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(negativeTtl);
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > MetadataCachingStorage.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public boolean isObjectExist(String objectPath) {
+        final Entry entry = lookup(objectPath, false);
+        if (entry != null) {
+            return entry.exists;
+        }
+        final long start = generation.get();
+        final boolean exists = delegate.isObjectExist(objectPath);
+        store(objectPath, new Entry(exists, null, false), start);
+        return exists;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        final Entry entry = lookup(objectPath, false);
+        if (entry != null) {
+            return CompletableFuture.completedFuture(entry.exists);
+        }
+        final long start = generation.get();
+        return delegate.isObjectExistAsync(objectPath).thenApply(exists -> {
+            store(objectPath, new Entry(exists, null, false), start);
+            return exists;
+        });
+    }
+
+    @Override
+    public CosObject statObject(String objectPath) {
+        final Entry entry = lookup(objectPath, true);
+        if (entry != null) {
+            return copy(entry.stat);
+        }
+        final long start = generation.get();
+        final CosObject stat = delegate.statObject(objectPath);
+        store(objectPath, new Entry(stat != null, copy(stat), true), start);
+        return stat;
+    }
+
+    @Override
+    protected void written(String objectPath) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(objectPath);
+        }
+    }
+
+    @Override
+    protected void writtenPrefix(String prefix) {
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.keySet().removeIf(path -> path.startsWith(prefix));
+        }
+    }
+
+    CacheStats stats() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(backend, TIER, hits.get(), misses.get(), evictions.get(), size, maxEntries);
+    }
+
+    /**
+     * 查找未过期条目, 需要元数据时只接受已获取元数据(或不存在)的条目
+     */
+    private Entry lookup(String objectPath, boolean needStat) {
+        if (objectPath == null) {
+            return null;
+        }
+        final String key = cacheKey(objectPath);
+        final long now = System.nanoTime();
+        synchronized (entries) {
+            final Entry entry = entries.get(key);
+            if (entry != null && now - entry.expiresAt >= 0) {
+                entries.remove(key);
+            } else if (entry != null && (!needStat || entry.statLoaded || !entry.exists)) {
+                hits.incrementAndGet();
+                return entry;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    private void store(String objectPath, Entry entry, long start) {
+        if (objectPath == null) {
+            return;
+        }
+        entry.expiresAt = System.nanoTime() + (entry.exists ? ttlNanos : negativeTtlNanos);
+        synchronized (entries) {
+            if (generation.get() == start) {
+                entries.put(cacheKey(objectPath), entry);
+            }
+        }
+    }
+
+    private static CosObject copy(CosObject stat) {
+        if (stat == null) {
+            return null;
+        }
+        final CosObject cosObject = new CosObject();
+        cosObject.setPath(stat.getPath());
+        cosObject.setContentLength(stat.getContentLength());
+        cosObject.setTotalLength(stat.getTotalLength());
+        cosObject.setContentType(stat.getContentType());
+        cosObject.setEtag(stat.getEtag());
+        return cosObject;
+    }
+
+    private static class Entry {
+
+        private final boolean exists;
+
+        private final CosObject stat;
+
+        private final boolean statLoaded;
+
+        private long expiresAt;
+
+        Entry(boolean exists, CosObject stat, boolean statLoaded) {
+            this.exists = exists;
+            this.stat = stat;
+            this.statLoaded = statLoaded;
+        }
+    }
+}
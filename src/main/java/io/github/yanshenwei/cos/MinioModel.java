@@ -3,17 +3,43 @@ package io.github.yanshenwei.cos;
 import io.github.yanshenwei.cos.config.CosConstants;
 import io.minio.*;
 import io.minio.errors.*;
+import io.minio.http.HttpUtils;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import io.minio.messages.Item;
+import io.minio.messages.ListBucketResultV2;
+import io.minio.messages.Prefix;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
 import java.io.*;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**********************************
  * @Author YSW
@@ -30,18 +56,34 @@ import java.security.NoSuchAlgorithmException;
 
 @Component
 @ConditionalOnProperty(prefix = "cos.minio", name = "enable", havingValue = "true")
-public class MinioModel implements ObjectCloudStorage {
+public class MinioModel implements CosStorage {
 
     private static final Logger log = LoggerFactory.getLogger(MinioModel.class);
 
     private static final String FILE_NOT_EXIST = "Object does not exist";
     private static final String KEY_NOT_EXIST = "The specified key does not exist.";
+    private static final String PRECONDITION_FAILED = "PreconditionFailed";
+    private static final int HTTP_PRECONDITION_FAILED = 412;
+    private static final int HTTP_CONFLICT = 409;
+    private static final String NO_SUCH_UPLOAD = "NoSuchUpload";
 
     @Resource
     private CosConstants.MinioConfig minioConfig;
 
     private MinioClient minioClient;
 
+    private OkHttpClient httpClient;
+
+    private ExtendedMinioAsyncClient minioAsyncClient;
+
+    private ExecutorService partExecutor;
+
+    private MultipartUploader multipartUploader;
+
+    private RangeDownloader rangeDownloader;
+
+    private ExecutorService asyncExecutor;
+
     private String resourceHost;
 
     private String bucket;
@@ -65,10 +107,32 @@ public class MinioModel implements ObjectCloudStorage {
             this.objectPrefix = "";
         }
         log.debug("minio.object-dir-prefix: " + objectPrefix);
+        httpClient = buildHttpClient();
         minioClient = MinioClient.builder()
                 .endpoint(minioConfig.getEndpoint())
                 .credentials(minioConfig.getAccessKeyId(), minioConfig.getAccessKeySecret())
+                .httpClient(httpClient)
                 .build();
+        minioAsyncClient = new ExtendedMinioAsyncClient(MinioAsyncClient.builder()
+                .endpoint(minioConfig.getEndpoint())
+                .credentials(minioConfig.getAccessKeyId(), minioConfig.getAccessKeySecret())
+                .httpClient(httpClient)
+                .build());
+        partExecutor = AsyncSupport.newPartExecutor(minioConfig.getPartConcurrency(), "minio-part-",
+                minioConfig.isVirtualThreads(), minioConfig.getVirtualThreadPermits());
+        final int partSize = MultipartUploader.checkPartSize(minioConfig.getPartSize(), "minio");
+        multipartUploader = new MultipartUploader(new MinioPartTarget(), partExecutor,
+                partSize, minioConfig.getPartConcurrency());
+        rangeDownloader = new RangeDownloader(this::openRange, partExecutor,
+                partSize, minioConfig.getPartConcurrency());
+        asyncExecutor = AsyncSupport.newAsyncExecutor(minioConfig.getAsyncThreads(),
+                minioConfig.getAsyncQueueCapacity(), "minio-async-",
+                minioConfig.isVirtualThreads(), minioConfig.getVirtualThreadPermits());
+        final String checkpointDir = minioConfig.getCheckpointDir();
+        if (checkpointDir != null && checkpointDir.trim().length() > 0) {
+            multipartUploader.enableCheckpoint(checkpointDir, minioConfig.getCheckpointTtl(), "minio");
+            partExecutor.execute(multipartUploader::cleanExpiredCheckpoints);
+        }
         bucket = minioConfig.getBucket();
         resourceHost = minioConfig.getResourceHost();
         if (!isBucketExists(bucket)) {
@@ -76,6 +140,61 @@ public class MinioModel implements ObjectCloudStorage {
         }
     }
 
+    @PreDestroy
+    private void destroy() {
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdownNow();
+        }
+        if (partExecutor != null) {
+            partExecutor.shutdownNow();
+        }
+        if (httpClient != null) {
+            httpClient.dispatcher().executorService().shutdown();
+            httpClient.connectionPool().evictAll();
+            log.debug("minio http client 已关闭");
+        }
+    }
+
+    MultipartUploader getMultipartUploader() {
+        return multipartUploader;
+    }
+
+    ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * 按配置构建 OkHttp 客户端(连接池, 并发调度, 超时, 协议)
+     *
+     * @return OkHttp 客户端
+     */
+    private OkHttpClient buildHttpClient() {
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(minioConfig.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(minioConfig.getMaxRequestsPerHost());
+        final OkHttpClient.Builder builder = HttpUtils.newDefaultHttpClient(
+                        minioConfig.getConnectTimeout(),
+                        minioConfig.getWriteTimeout(),
+                        minioConfig.getReadTimeout())
+                .newBuilder()
+                .connectionPool(new ConnectionPool(
+                        minioConfig.getMaxIdleConnections(),
+                        minioConfig.getKeepAliveDuration(),
+                        TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher);
+        if (minioConfig.isHttp2()) {
+            //noinspection AlibabaUndefineMagicConstant
+            if (minioConfig.getEndpoint().startsWith("https")) {
+                builder.protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+            } else {
+                builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+            }
+        } else {
+            builder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        return builder.build();
+    }
+
     public MinioClient getMinio() {
         return this.minioClient;
     }
@@ -89,43 +208,34 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public boolean putObject(String objectPath, File file) {
-        MinioClient minio = getMinio();
+        return putObject(objectPath, file, PutCondition.ifAbsent());
+    }
+
+    /**
+     * 按覆盖策略上传对象
+     *
+     * @param objectPath 对象名称
+     * @param file       对象文件
+     * @param condition  覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, File file, PutCondition condition) {
         final String path = getFormatObjectPath(objectPath);
-        try {
-            minio.statObject(
-                    StatObjectArgs.builder()
-                            .bucket(bucket)
-                            .object(path)
-                            .build());
-            log.error("对象 [" + path + "] 已存在");
-        } catch (ErrorResponseException | InternalException |
-                 XmlParserException | InsufficientDataException |
-                 InvalidKeyException | InvalidResponseException |
-                 NoSuchAlgorithmException | ServerException |
-                 IOException e) {
-            if (FILE_NOT_EXIST.equals(e.getMessage())) {
-                final PutObjectArgs putObjectArgs;
-                try (InputStream inputStream = Files.newInputStream(file.toPath())) {
-                    putObjectArgs = PutObjectArgs.builder().bucket(bucket)
-                            .object(path)
-                            .stream(inputStream, inputStream.available(), -1)
-                            .contentType("application/octet-stream")
-                            .build();
-                    minio.putObject(putObjectArgs);
-                    log.debug("对象 [" + path + "] 上传成功");
-                    return true;
-                } catch (ErrorResponseException | InternalException |
-                         XmlParserException | InsufficientDataException |
-                         InvalidKeyException | InvalidResponseException |
-                         NoSuchAlgorithmException | ServerException |
-                         IOException e1) {
-                    log.error("对象 [" + path + "] 上传异常");
-                }
-            } else {
-                e.printStackTrace();
+        if (file.length() >= minioConfig.getMultipartThreshold()) {
+            try {
+                return multipartUploader.uploadFile(path, file, "application/octet-stream", condition);
+            } catch (Exception e) {
+                log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
+                return false;
             }
         }
-        return false;
+        try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+            return doPutObject(path, inputStream, file.length(), "application/octet-stream", condition);
+        } catch (IOException e) {
+            log.error("对象 [" + path + "] 上传异常");
+            return false;
+        }
     }
 
     /**
@@ -138,42 +248,27 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public boolean putObject(String objectPath, InputStream inputStream, String contentType) {
-        MinioClient minio = getMinio();
+        return putObject(objectPath, inputStream, contentType, PutCondition.ifAbsent());
+    }
+
+    /**
+     * 按覆盖策略上传流对象
+     *
+     * @param objectPath  对象名称
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
         final String path = getFormatObjectPath(objectPath);
         try {
-            minio.statObject(
-                    StatObjectArgs.builder()
-                            .bucket(bucket)
-                            .object(path)
-                            .build());
-            log.error("对象 [" + path + "] 已存在");
-        } catch (ErrorResponseException | InternalException |
-                 XmlParserException | InsufficientDataException |
-                 InvalidKeyException | InvalidResponseException |
-                 NoSuchAlgorithmException | ServerException |
-                 IOException e) {
-            if (FILE_NOT_EXIST.equals(e.getMessage())) {
-                try {
-                    final PutObjectArgs putObjectArgs = PutObjectArgs.builder().bucket(bucket)
-                            .object(path)
-                            .stream(inputStream, inputStream.available(), -1)
-                            .contentType(contentType)
-                            .build();
-                    minio.putObject(putObjectArgs);
-                    log.debug("对象 [" + objectPath + "] 上传成功");
-                    return true;
-                } catch (ErrorResponseException | InternalException |
-                         XmlParserException | InsufficientDataException |
-                         InvalidKeyException | InvalidResponseException |
-                         NoSuchAlgorithmException | ServerException |
-                         IOException e1) {
-                    log.error("对象 [" + path + "] 上传异常");
-                }
-            } else {
-                e.printStackTrace();
-            }
+            return multipartUploader.upload(path, inputStream, contentType, condition);
+        } catch (Exception e) {
+            log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
+            return false;
         }
-        return false;
     }
 
     /**
@@ -185,44 +280,7 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public boolean putObject(String objectPath, byte[] content) {
-        MinioClient minio = getMinio();
-        final String path = getFormatObjectPath(objectPath);
-        try {
-            minio.statObject(
-                    StatObjectArgs.builder()
-                            .bucket(bucket)
-                            .object(path)
-                            .build());
-            log.error("对象 [" + path + "] 已存在");
-            return false;
-        } catch (ErrorResponseException | InternalException |
-                 XmlParserException | InsufficientDataException |
-                 InvalidKeyException | InvalidResponseException |
-                 NoSuchAlgorithmException | ServerException |
-                 IOException e) {
-            if (FILE_NOT_EXIST.equals(e.getMessage())) {
-                try {
-                    InputStream inputStream = new ByteArrayInputStream(content);
-                    final PutObjectArgs putObjectArgs = PutObjectArgs.builder().bucket(bucket)
-                            .object(path)
-                            .stream(inputStream, inputStream.available(), -1)
-                            .contentType("application/octet-stream")
-                            .build();
-                    minio.putObject(putObjectArgs);
-                    log.debug("对象 [" + path + "] 上传成功");
-                    return true;
-                } catch (ErrorResponseException | InternalException |
-                         XmlParserException | InsufficientDataException |
-                         InvalidKeyException | InvalidResponseException |
-                         NoSuchAlgorithmException | ServerException |
-                         IOException e1) {
-                    log.error("对象 [" + path + "] 上传异常");
-                }
-            } else {
-                e.printStackTrace();
-            }
-        }
-        return false;
+        return putObject(objectPath, content, "application/octet-stream", PutCondition.ifAbsent());
     }
 
     /**
@@ -235,45 +293,88 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public boolean putObject(String objectPath, byte[] content, String contentType) {
-        MinioClient minio = getMinio();
+        return putObject(objectPath, content, contentType, PutCondition.ifAbsent());
+    }
+
+    /**
+     * 按覆盖策略上传字节数组对象
+     *
+     * @param objectPath  对象名称
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
         final String path = getFormatObjectPath(objectPath);
+        return doPutObject(path, new ByteArrayInputStream(content), content.length, contentType, condition);
+    }
+
+    /**
+     * 单次请求上传, 覆盖判断交由服务端条件请求头完成 (412 / 409 视为条件不满足)
+     *
+     * @param path        格式化后的对象路径
+     * @param inputStream 字节数流对象
+     * @param size        对象长度
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    private boolean doPutObject(String path, InputStream inputStream, long size, String contentType, PutCondition condition) {
         try {
-            minio.statObject(
-                    StatObjectArgs.builder()
-                            .bucket(bucket)
-                            .object(path)
-                            .build());
-            log.error("对象 [" + path + "] 已存在");
-        } catch (ErrorResponseException | InternalException |
-                 XmlParserException | InsufficientDataException |
+            final PutObjectArgs putObjectArgs = PutObjectArgs.builder().bucket(bucket)
+                    .object(path)
+                    .stream(inputStream, size, -1)
+                    .contentType(contentType == null ? "application/octet-stream" : contentType)
+                    .headers(conditionHeaders(condition))
+                    .build();
+            getMinio().putObject(putObjectArgs);
+            log.debug("对象 [" + path + "] 上传成功");
+            return true;
+        } catch (ErrorResponseException e) {
+            if (isConditionFailed(e)) {
+                logConditionFailed(path, condition);
+            } else {
+                log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
+            }
+        } catch (InternalException | XmlParserException | InsufficientDataException |
                  InvalidKeyException | InvalidResponseException |
                  NoSuchAlgorithmException | ServerException |
                  IOException e) {
-            if (FILE_NOT_EXIST.equals(e.getMessage())) {
-                try {
-                    InputStream inputStream = new ByteArrayInputStream(content);
-                    final PutObjectArgs putObjectArgs = PutObjectArgs.builder().bucket(bucket)
-                            .object(path)
-                            .stream(inputStream, inputStream.available(), -1)
-                            .contentType(contentType)
-                            .build();
-                    minio.putObject(putObjectArgs);
-                    log.debug("对象 [" + objectPath + "] 上传成功");
-                    return true;
-                } catch (ErrorResponseException | InternalException |
-                         XmlParserException | InsufficientDataException |
-                         InvalidKeyException | InvalidResponseException |
-                         NoSuchAlgorithmException | ServerException |
-                         IOException e1) {
-                    log.error("对象 [" + objectPath + "] 上传异常");
-                }
-            } else {
-                e.printStackTrace();
-            }
+            log.error("对象 [" + path + "] 上传异常");
         }
         return false;
     }
 
+    private Map<String, String> conditionHeaders(PutCondition condition) {
+        if (condition == null) {
+            return Collections.emptyMap();
+        }
+        switch (condition.getPolicy()) {
+            case IF_ABSENT:
+                return Collections.singletonMap("If-None-Match", "*");
+            case IF_MATCH:
+                return Collections.singletonMap("If-Match", condition.getEtag());
+            default:
+                return Collections.emptyMap();
+        }
+    }
+
+    private boolean isConditionFailed(ErrorResponseException e) {
+        final int code = e.response() != null ? e.response().code() : 0;
+        return code == HTTP_PRECONDITION_FAILED || code == HTTP_CONFLICT
+                || PRECONDITION_FAILED.equals(e.errorResponse().code());
+    }
+
+    private void logConditionFailed(String path, PutCondition condition) {
+        if (condition != null && condition.getPolicy() == PutCondition.Policy.IF_MATCH) {
+            log.error("对象 [" + path + "] ETag 不匹配 " + condition.getEtag());
+        } else {
+            log.error("对象 [" + path + "] 已存在");
+        }
+    }
+
     /**
      * 上传可追加字节流对象
      *
@@ -344,7 +445,7 @@ public class MinioModel implements ObjectCloudStorage {
     }
 
     /**
-     * 对象复制
+     * 对象复制, 不覆盖时以 If-None-Match 条件请求头由服务端判断目标对象是否存在
      *
      * @param sourceObjectPath 源对象路径名称
      * @param targetObjectPath 目标对象路径名称
@@ -352,31 +453,24 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public boolean copyObject(String sourceObjectPath, String targetObjectPath, boolean isCover) {
-        if (isCover) {
-            return doCopyObject(objectPrefix + sourceObjectPath, objectPrefix + targetObjectPath);
-        } else {
-            if (isObjectExist(targetObjectPath)) {
-                log.error("目标对象 [" + objectPrefix + targetObjectPath + "] 已存在");
-                return false;
-            } else {
-                return doCopyObject(objectPrefix + sourceObjectPath, objectPrefix + targetObjectPath);
-            }
-        }
+        return doCopyObject(objectPrefix + sourceObjectPath, objectPrefix + targetObjectPath, isCover);
     }
 
-    private boolean doCopyObject(String sourceObject, String targetObject) {
+    private boolean doCopyObject(String sourceObject, String targetObject, boolean isCover) {
         MinioClient minio = getMinio();
         try {
-            final CopySource copySource = CopySource.builder().bucket(bucket).object(sourceObject).build();
-            final CopyObjectArgs copyObjectArgs = CopyObjectArgs.builder()
-                    .bucket(bucket)
-                    .object(targetObject)
-                    .source(copySource)
-                    .build();
-            minio.copyObject(copyObjectArgs);
+            minio.copyObject(copyObjectArgs(sourceObject, targetObject, isCover));
             log.debug("源对象 [" + sourceObject + "] -> " + "目标对象 [" + targetObject + "] 复制成功");
             return true;
-        } catch (ErrorResponseException | InternalException |
+        } catch (ErrorResponseException e) {
+            if (!isCover && isConditionFailed(e)) {
+                log.error("目标对象 [" + targetObject + "] 已存在");
+            } else if (KEY_NOT_EXIST.equals(e.getMessage())) {
+                log.error("源对象 [" + sourceObject + "] 不存在");
+            } else {
+                log.error(e.getMessage());
+            }
+        } catch (InternalException |
                  XmlParserException | InsufficientDataException |
                  InvalidKeyException | InvalidResponseException |
                  NoSuchAlgorithmException | ServerException |
@@ -390,6 +484,20 @@ public class MinioModel implements ObjectCloudStorage {
         return false;
     }
 
+    /**
+     * 复制参数, 不覆盖时带 If-None-Match: *, 目标对象已存在时服务端返回 412
+     */
+    private CopyObjectArgs copyObjectArgs(String sourceObject, String targetObject, boolean isCover) {
+        final CopyObjectArgs.Builder builder = CopyObjectArgs.builder()
+                .bucket(bucket)
+                .object(targetObject)
+                .source(CopySource.builder().bucket(bucket).object(sourceObject).build());
+        if (!isCover) {
+            builder.extraHeaders(Collections.singletonMap("If-None-Match", "*"));
+        }
+        return builder.build();
+    }
+
     /**
      * 对象获取
      *
@@ -398,38 +506,184 @@ public class MinioModel implements ObjectCloudStorage {
      */
     @Override
     public CosObject getObject(String objectPath) {
+        if (objectPath == null) {
+            return null;
+        }
+        final String path = getFormatObjectPath(objectPath);
+        return doGetObject(path, GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(path)
+                .build());
+    }
+
+    /**
+     * 对象范围获取
+     *
+     * @param objectPath 对象名称
+     * @param offset     起始位置
+     * @param length     读取长度, 小于 0 时读取到对象末尾
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObject(String objectPath, long offset, long length) {
+        if (objectPath == null || offset < 0 || length == 0) {
+            return null;
+        }
+        final String path = getFormatObjectPath(objectPath);
+        return doGetObject(path, GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(path)
+                .offset(offset)
+                .length(length > 0 ? length : null)
+                .build());
+    }
+
+    /**
+     * 对象末尾范围获取
+     *
+     * @param objectPath   对象名称
+     * @param suffixLength 读取对象最后 suffixLength 个字节
+     * @return 操作结果
+     */
+    @Override
+    public CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        if (objectPath == null || suffixLength <= 0) {
+            return null;
+        }
+        final String path = getFormatObjectPath(objectPath);
+        return doGetObject(path, GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(path)
+                .extraHeaders(Collections.singletonMap("Range", "bytes=-" + suffixLength))
+                .build());
+    }
+
+    private CosObject doGetObject(String path, GetObjectArgs getObjectArgs) {
+        try {
+            return toCosObject(path, minioClient.getObject(getObjectArgs));
+        } catch (ErrorResponseException | InternalException |
+                 XmlParserException | InsufficientDataException |
+                 InvalidKeyException | InvalidResponseException |
+                 NoSuchAlgorithmException | ServerException |
+                 IOException e) {
+            log.error("对象 [" + path + "] 获取失败");
+            return null;
+        }
+    }
+
+    private CosObject toCosObject(String path, GetObjectResponse object) {
+        final CosObject cosObject = new CosObject();
+        cosObject.setInputStream(object);
+        cosObject.setPath(path);
+        final String l = object.headers().get("Content-Length");
+        final String c = object.headers().get("Content-Type");
+        if (l == null) {
+            log.error("对象 [" + path + "] 元数据缺少文件长度信息");
+        }
+        cosObject.setContentLength(l != null ? Long.parseLong(l) : null);
+        cosObject.setContentType(c);
+        cosObject.setEtag(object.headers().get("ETag"));
+        cosObject.applyContentRange(object.headers().get("Content-Range"));
+        log.debug("对象 [" + path + "] 获取成功");
+        return cosObject;
+    }
+
+    /**
+     * 对象元数据获取
+     *
+     * @param objectPath 对象名称
+     * @return 对象元数据, 对象不存在时返回 null
+     */
+    @Override
+    public CosObject statObject(String objectPath) {
         if (objectPath == null) {
             return null;
         }
         final String path = getFormatObjectPath(objectPath);
         try {
-            final GetObjectResponse object = minioClient.getObject(
-                    GetObjectArgs.builder()
+            final StatObjectResponse stat = minioClient.statObject(
+                    StatObjectArgs.builder()
                             .bucket(bucket)
                             .object(path)
                             .build());
             final CosObject cosObject = new CosObject();
-            cosObject.setInputStream(object);
             cosObject.setPath(path);
-            final String l = object.headers().get("Content-Length");
-            final String c = object.headers().get("Content-Type");
-            if (l == null) {
-                log.error("对象 [" + path + "] 元数据缺少文件长度信息");
-            }
-            cosObject.setContentLength(l != null ? Long.parseLong(l) : null);
-            cosObject.setContentType(c);
-            log.debug("对象 [" + path + "] 获取成功");
+            cosObject.setContentLength(stat.size());
+            cosObject.setTotalLength(stat.size());
+            cosObject.setContentType(stat.contentType());
+            cosObject.setEtag(stat.etag());
             return cosObject;
         } catch (ErrorResponseException | InternalException |
                  XmlParserException | InsufficientDataException |
                  InvalidKeyException | InvalidResponseException |
                  NoSuchAlgorithmException | ServerException |
                  IOException e) {
-            log.error("对象 [" + path + "] 获取失败");
+            if (FILE_NOT_EXIST.equals(e.getMessage())) {
+                log.error("对象 [" + path + "] 不存在");
+            } else {
+                log.error("对象 [" + path + "] 元数据获取失败 " + e.getMessage());
+            }
             return null;
         }
     }
 
+    /**
+     * 多连接分段下载对象到本地文件
+     *
+     * @param objectPath 对象名称
+     * @param target     本地目标文件
+     * @return 操作结果
+     */
+    @Override
+    public boolean downloadToFile(String objectPath, Path target) {
+        final CosObject stat = statObject(objectPath);
+        if (stat == null) {
+            return false;
+        }
+        try {
+            rangeDownloader.download(stat.getPath(), stat.getContentLength(), stat.getEtag(), target);
+            log.debug("对象 [" + stat.getPath() + "] 下载成功 -> " + target);
+            return true;
+        } catch (Exception e) {
+            log.error("对象 [" + stat.getPath() + "] 下载异常 " + e.getMessage());
+            return false;
+        }
+    }
+
+    private InputStream openRange(String path, long start, long end, String etag) throws Exception {
+        return minioClient.getObject(GetObjectArgs.builder()
+                .bucket(bucket)
+                .object(path)
+                .offset(start)
+                .length(end - start + 1)
+                .matchETag(etag)
+                .build());
+    }
+
+    /**
+     * 对象内容写入通道
+     *
+     * @param objectPath 对象名称
+     * @param target     目标通道
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, WritableByteChannel target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
+    /**
+     * 对象内容写入输出流
+     *
+     * @param objectPath 对象名称
+     * @param target     目标输出流
+     * @return 操作结果
+     */
+    @Override
+    public boolean transferTo(String objectPath, OutputStream target) {
+        return ObjectTransfer.transfer(getObject(objectPath), target);
+    }
+
     /**
      * 获取对象(通过对象资源地址)
      *
@@ -457,7 +711,7 @@ public class MinioModel implements ObjectCloudStorage {
     }
 
     /**
-     * 对象删除
+     * 对象删除, 删除是幂等的: 对象不存在时同样返回 true, 请求失败时返回 false
      *
      * @param objectPath 对象名称
      * @return 操作结果
@@ -481,6 +735,120 @@ public class MinioModel implements ObjectCloudStorage {
         }
     }
 
+    /**
+     * 批量删除对象, 每批 1000 个以 removeObjects 删除, 各批在分片线程池中并发执行
+     *
+     * @param objectPaths 对象存储路径
+     * @return 删除结果
+     */
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        final BatchDeleteResult result = BatchDeleter.delete(objectPaths, this::getObjectKey,
+                this::removeObjects, partExecutor, minioConfig.getPartConcurrency());
+        if (!result.isSuccess()) {
+            log.error("批量删除 " + result.getFailures().size() + " 个对象失败");
+        }
+        return result;
+    }
+
+    private Map<String, String> removeObjects(List<String> paths) throws Exception {
+        final List<DeleteObject> objects = new ArrayList<>(paths.size());
+        paths.forEach(path -> objects.add(new DeleteObject(path)));
+        final Map<String, String> failures = new LinkedHashMap<>();
+        final Iterable<Result<DeleteError>> results = minioClient.removeObjects(
+                RemoveObjectsArgs.builder().bucket(bucket).objects(objects).build());
+        // 结果为惰性迭代, 迭代时才发起删除请求
+        for (Result<DeleteError> result : results) {
+            final DeleteError error = result.get();
+            failures.put(error.objectName(), error.code() + " " + error.message());
+        }
+        log.debug("批量删除 " + paths.size() + " 个对象, 失败 " + failures.size() + " 个");
+        return failures;
+    }
+
+    /**
+     * 列举对象, 以 ListObjectsV2 按页请求, 启用 list-prefetch 时在异步线程池中预取下一页
+     *
+     * @param prefix    路径前缀
+     * @param delimiter 分隔符, 为空时递归列举
+     * @return 对象条目流
+     */
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        final String root = getObjectKey("");
+        final String listPrefix = getObjectKey(prefix == null ? "" : prefix);
+        final String listDelimiter = delimiter == null || delimiter.isEmpty() ? null : delimiter;
+        final int pageSize = Math.max(1, Math.min(1000, minioConfig.getListPageSize()));
+        return ObjectLister.stream(token -> {
+            final ListBucketResultV2 result;
+            try {
+                result = minioAsyncClient.listObjectsPage(bucket, listPrefix, listDelimiter, token, pageSize);
+            } catch (ErrorResponseException | InternalException |
+                     XmlParserException | InsufficientDataException |
+                     InvalidKeyException | InvalidResponseException |
+                     NoSuchAlgorithmException | ServerException |
+                     IOException e) {
+                log.error("前缀 [" + listPrefix + "] 列举失败 " + e.getMessage());
+                throw e;
+            }
+            final List<CosObjectSummary> objects = new ArrayList<>(result.contents().size());
+            for (Item item : result.contents()) {
+                final CosObjectSummary summary = new CosObjectSummary();
+                summary.setPath(ObjectLister.relativize(root, item.objectName()));
+                summary.setSize(item.size());
+                summary.setEtag(ObjectLister.etag(item.etag()));
+                if (item.lastModified() != null) {
+                    summary.setLastModified(Date.from(item.lastModified().toInstant()));
+                }
+                objects.add(summary);
+            }
+            final List<CosObjectSummary> directories = new ArrayList<>();
+            for (Prefix commonPrefix : result.commonPrefixes()) {
+                directories.add(ObjectLister.directory(
+                        ObjectLister.relativize(root, commonPrefix.toItem().objectName())));
+            }
+            log.debug("前缀 [" + listPrefix + "] 列举 " + (objects.size() + directories.size()) + " 个条目");
+            return new ObjectLister.Page(objects, directories,
+                    result.isTruncated() ? result.nextContinuationToken() : null);
+        }, minioConfig.isListPrefetch() ? asyncExecutor : null);
+    }
+
+    /**
+     * 复制前缀下的全部对象, 边列举边在异步线程池中并发执行服务端复制
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 复制结果
+     */
+    @Override
+    public PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, false, asyncExecutor,
+                copyConcurrency());
+    }
+
+    /**
+     * 移动前缀下的全部对象, 复制成功的源对象每 1000 个批量删除一次
+     *
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @return 移动结果
+     */
+    @Override
+    public PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return PrefixCopier.copy(this, sourcePrefix, targetPrefix, overwrite, true, asyncExecutor,
+                copyConcurrency());
+    }
+
+    /**
+     * 前缀复制的并发数, 不超过异步线程池的线程数或虚拟线程许可数
+     */
+    private int copyConcurrency() {
+        return Math.min(minioConfig.getCopyConcurrency(),
+                minioConfig.isVirtualThreads() ? minioConfig.getVirtualThreadPermits() : minioConfig.getAsyncThreads());
+    }
+
     /**
      * 对象是否存在
      *
@@ -511,6 +879,173 @@ public class MinioModel implements ObjectCloudStorage {
         return false;
     }
 
+    /**
+     * 异步上传对象(含分片上传), 在异步线程池中执行
+     *
+     * @param objectPath 对象名称
+     * @param file       文件对象
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, File file) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, file), false);
+    }
+
+    /**
+     * 异步上传流对象, 在异步线程池中执行
+     *
+     * @param objectPath  对象名称
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, InputStream inputStream, String contentType) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, inputStream, contentType), false);
+    }
+
+    /**
+     * 异步上传字节数组对象, 在异步线程池中执行
+     *
+     * @param objectPath  对象名称
+     * @param content     对象字节数组
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> putObjectAsync(String objectPath, byte[] content, String contentType) {
+        return AsyncSupport.supply(asyncExecutor, () -> putObject(objectPath, content, contentType), false);
+    }
+
+    /**
+     * 异步对象复制
+     *
+     * @param sourceObjectPath 源对象路径名称
+     * @param targetObjectPath 目标对象路径名称
+     * @param isCover          是否覆盖
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> copyObjectAsync(String sourceObjectPath, String targetObjectPath, boolean isCover) {
+        return doCopyObjectAsync(objectPrefix + sourceObjectPath, objectPrefix + targetObjectPath, isCover);
+    }
+
+    private CompletableFuture<Boolean> doCopyObjectAsync(String sourceObject, String targetObject, boolean isCover) {
+        try {
+            return minioAsyncClient.copyObject(copyObjectArgs(sourceObject, targetObject, isCover))
+                    .handle((response, throwable) -> {
+                        if (throwable == null) {
+                            log.debug("源对象 [" + sourceObject + "] -> " + "目标对象 [" + targetObject + "] 复制成功");
+                            return true;
+                        }
+                        final Throwable e = AsyncSupport.unwrap(throwable);
+                        if (!isCover && e instanceof ErrorResponseException
+                                && isConditionFailed((ErrorResponseException) e)) {
+                            log.error("目标对象 [" + targetObject + "] 已存在");
+                        } else if (KEY_NOT_EXIST.equals(e.getMessage())) {
+                            log.error("源对象 [" + sourceObject + "] 不存在");
+                        } else {
+                            log.error(e.getMessage());
+                        }
+                        return false;
+                    });
+        } catch (InternalException | XmlParserException | InsufficientDataException |
+                 InvalidKeyException | NoSuchAlgorithmException | IOException e) {
+            log.error(e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * 异步对象获取
+     *
+     * @param objectPath 对象名称
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<CosObject> getObjectAsync(String objectPath) {
+        if (objectPath == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final String path = getFormatObjectPath(objectPath);
+        try {
+            return minioAsyncClient.getObject(GetObjectArgs.builder()
+                            .bucket(bucket)
+                            .object(path)
+                            .build())
+                    .handle((object, throwable) -> {
+                        if (throwable == null) {
+                            return toCosObject(path, object);
+                        }
+                        log.error("对象 [" + path + "] 获取失败");
+                        return null;
+                    });
+        } catch (InternalException | XmlParserException | InsufficientDataException |
+                 InvalidKeyException | NoSuchAlgorithmException | IOException e) {
+            log.error("对象 [" + path + "] 获取失败");
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * 异步对象删除
+     *
+     * @param objectPath 对象名称
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> deleteObjectAsync(String objectPath) {
+        final String path = getFormatObjectPath(objectPath);
+        try {
+            return minioAsyncClient.removeObject(
+                            RemoveObjectArgs.builder().bucket(bucket).object(path).build())
+                    .handle((response, throwable) -> {
+                        if (throwable == null) {
+                            log.debug("对象 [" + path + "] 删除成功");
+                            return true;
+                        }
+                        log.error("对象 [" + path + "] 删除失败 " + AsyncSupport.unwrap(throwable).getMessage());
+                        return false;
+                    });
+        } catch (InternalException | XmlParserException | InsufficientDataException |
+                 InvalidKeyException | NoSuchAlgorithmException | IOException e) {
+            log.error("对象 [" + path + "] 删除失败 " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * 异步判断对象是否存在
+     *
+     * @param objectPath 对象名称
+     * @return 操作结果
+     */
+    @Override
+    public CompletableFuture<Boolean> isObjectExistAsync(String objectPath) {
+        final String path = getFormatObjectPath(objectPath);
+        try {
+            return minioAsyncClient.statObject(
+                            StatObjectArgs.builder()
+                                    .bucket(bucket)
+                                    .object(path)
+                                    .build())
+                    .handle((stat, throwable) -> {
+                        if (throwable == null) {
+                            return true;
+                        }
+                        final Throwable e = AsyncSupport.unwrap(throwable);
+                        if (!FILE_NOT_EXIST.equals(e.getMessage())) {
+                            log.error("对象 [" + path + "] 查询失败 " + e.getMessage());
+                        }
+                        return false;
+                    });
+        } catch (InternalException | XmlParserException | InsufficientDataException |
+                 InvalidKeyException | NoSuchAlgorithmException | IOException e) {
+            log.error("对象 [" + path + "] 查询失败 " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
     /**
      * 获取对象 url
      *
@@ -586,7 +1121,7 @@ public class MinioModel implements ObjectCloudStorage {
         }
     }
 
-    private String getFormatObjectPath(String objectPath) {
+    String getFormatObjectPath(String objectPath) {
         String path = (objectPrefix + objectPath).replaceAll("/+", "/");
         if (!path.startsWith("/")) {
             path = "/" + path;
@@ -594,6 +1129,75 @@ public class MinioModel implements ObjectCloudStorage {
         return path;
     }
 
+    /**
+     * 对象键(不以 "/" 开头), 与列举结果及多对象删除请求中的对象名一致
+     */
+    String getObjectKey(String objectPath) {
+        return objectKey(objectPrefix, objectPath);
+    }
+
+    static String objectKey(String objectPrefix, String objectPath) {
+        final String path = (objectPrefix + objectPath).replaceAll("/+", "/");
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * minio 分片上传实现
+     */
+    private class MinioPartTarget implements MultipartUploader.Target {
+
+        @Override
+        public boolean putSingle(String path, byte[] data, int length, String contentType, PutCondition condition) {
+            return doPutObject(path, new ByteArrayInputStream(data, 0, length), length, contentType, condition);
+        }
+
+        @Override
+        public String initiate(String path, String contentType, PutCondition condition) throws Exception {
+            return minioAsyncClient.createMultipartUpload(bucket, path, Collections.singletonMap(
+                    "Content-Type", contentType == null ? "application/octet-stream" : contentType));
+        }
+
+        @Override
+        public String uploadPart(String path, String uploadId, int partNumber, byte[] data, int length) throws Exception {
+            return minioAsyncClient.uploadPart(bucket, path, uploadId, partNumber, data, length);
+        }
+
+        @Override
+        public boolean complete(String path, String uploadId, List<String> etags, PutCondition condition) throws Exception {
+            try {
+                minioAsyncClient.completeMultipartUpload(bucket, path, uploadId, etags, conditionHeaders(condition));
+            } catch (ErrorResponseException e) {
+                if (isConditionFailed(e)) {
+                    logConditionFailed(path, condition);
+                    abort(path, uploadId);
+                    return false;
+                }
+                throw e;
+            }
+            log.debug("对象 [" + path + "] 分片上传成功 parts " + etags.size());
+            return true;
+        }
+
+        @Override
+        public void abort(String path, String uploadId) {
+            try {
+                minioAsyncClient.abortMultipartUpload(bucket, path, uploadId);
+            } catch (ErrorResponseException | InternalException |
+                     XmlParserException | InsufficientDataException |
+                     InvalidKeyException | InvalidResponseException |
+                     NoSuchAlgorithmException | ServerException |
+                     IOException e) {
+                log.error("对象 [" + path + "] 中止分片上传失败 " + uploadId);
+            }
+        }
+
+        @Override
+        public boolean isUploadMissing(Throwable e) {
+            return e instanceof ErrorResponseException
+                    && NO_SUCH_UPLOAD.equals(((ErrorResponseException) e).errorResponse().code());
+        }
+    }
+
     private void operateMinio(MinioOperator operator) {
         MinioClient minio = getMinio();
         operator.operator(minio);
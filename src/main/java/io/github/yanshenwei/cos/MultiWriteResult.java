@@ -0,0 +1,84 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 双云写入结果, 分别记录 oss 与 minio 的执行状态
+ * @Date 2026/10/18 - 15:00
+ **********************************/
+
+public class MultiWriteResult {
+
+    /**
+     * 单个云存储的执行状态
+     */
+    public enum Status {
+        /**
+         * 执行成功
+         */
+        SUCCESS,
+        /**
+         * 执行失败(返回 false 或抛出异常)
+         */
+        FAILED,
+        /**
+         * 超过双云写入超时时间未完成
+         */
+        TIMEOUT,
+        /**
+         * 未启用
+         */
+        DISABLED,
+        /**
+         * 启用异步复制时, 主云存储写入成功且已记录复制日志, 由后台复制到此云存储
+         */
+        PENDING,
+        /**
+         * 启用异步复制时, 主云存储写入失败, 未复制到此云存储
+         */
+        SKIPPED
+    }
+
+    private final Status aliossStatus;
+
+    private final Status minioStatus;
+
+    public MultiWriteResult(Status aliossStatus, Status minioStatus) {
+        this.aliossStatus = aliossStatus;
+        this.minioStatus = minioStatus;
+    }
+
+    public Status getAliossStatus() {
+        return aliossStatus;
+    }
+
+    public Status getMinioStatus() {
+        return minioStatus;
+    }
+
+    /**
+     * 已启用的云存储全部执行成功(等待后台复制的视为成功)
+     */
+    public boolean isSuccess() {
+        return settled(aliossStatus) && settled(minioStatus)
+                && (aliossStatus == Status.SUCCESS || minioStatus == Status.SUCCESS);
+    }
+
+    private static boolean settled(Status status) {
+        return status == Status.SUCCESS || status == Status.PENDING || status == Status.DISABLED;
+    }
+
+    /**
+     * 仅部分云存储执行成功, 两端数据可能不一致
+     */
+    public boolean isPartial() {
+        return !isSuccess() && (aliossStatus == Status.SUCCESS || minioStatus == Status.SUCCESS);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiWriteResult{" +
+                "aliossStatus=" + aliossStatus +
+                ", minioStatus=" + minioStatus +
+                '}';
+    }
+}
@@ -0,0 +1,454 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**********************************
+ * @Author YSW
+ * @Description 分片上传, 按固定分片大小读取数据并发上传, 内存占用上限为 分片大小 × 在途分片数
+ * @Date 2026/10/18 - 10:20
+ **********************************/
+
+class MultipartUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(MultipartUploader.class);
+
+    /**
+     * S3 / OSS 分片数上限
+     */
+    static final int MAX_PART_COUNT = 10000;
+
+    /**
+     * S3 / OSS 分片大小下限(最后一个分片除外)
+     */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final Target target;
+
+    private final ExecutorService executor;
+
+    private final int partSize;
+
+    private final int partConcurrency;
+
+    private Path checkpointDir;
+
+    private long checkpointTtl;
+
+    private String checkpointName;
+
+    MultipartUploader(Target target, ExecutorService executor, int partSize, int partConcurrency) {
+        this.target = target;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.partConcurrency = Math.max(1, partConcurrency);
+    }
+
+    /**
+     * 校验配置的分片大小, 小于下限时按下限处理; 否则各分片上传完成后合并时才以 EntityTooSmall 失败
+     *
+     * @param partSize 配置的分片大小
+     * @param name     云存储名称
+     * @return 实际使用的分片大小
+     */
+    static int checkPartSize(int partSize, String name) {
+        if (partSize < MIN_PART_SIZE) {
+            log.warn(name + " 分片大小 " + partSize + " 小于下限 " + MIN_PART_SIZE + ", 按下限处理");
+            return MIN_PART_SIZE;
+        }
+        return partSize;
+    }
+
+    int getPartSize() {
+        return partSize;
+    }
+
+    int getPartConcurrency() {
+        return partConcurrency;
+    }
+
+    Target getTarget() {
+        return target;
+    }
+
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 流式上传长度未知的流对象, 不足一个分片时直接单次上传
+     *
+     * @param path        格式化后的对象路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果, 覆盖条件不满足时返回 false
+     * @throws Exception 上传异常(已中止分片上传)
+     */
+    boolean upload(String path, InputStream inputStream, String contentType, PutCondition condition) throws Exception {
+        final byte[] first = new byte[partSize];
+        final int firstLength = readFully(inputStream, first);
+        if (firstLength < partSize) {
+            return target.putSingle(path, first, firstLength, contentType, condition);
+        }
+        final String uploadId = target.initiate(path, contentType, condition);
+        final BufferPool bufferPool = new BufferPool(partSize, 1);
+        final List<Future<String>> futures = new ArrayList<>();
+        try {
+            byte[] buffer = first;
+            int length = firstLength;
+            int partNumber = 1;
+            while (true) {
+                futures.add(submitPart(path, uploadId, partNumber, buffer, length, bufferPool));
+                if (length < partSize) {
+                    break;
+                }
+                checkFailed(futures);
+                buffer = bufferPool.acquire();
+                length = readFully(inputStream, buffer);
+                if (length == 0) {
+                    bufferPool.release(buffer);
+                    break;
+                }
+                if (++partNumber > MAX_PART_COUNT) {
+                    throw new IOException("对象 [" + path + "] 分片数超过上限 " + MAX_PART_COUNT);
+                }
+            }
+            return target.complete(path, uploadId, await(futures), condition);
+        } catch (Exception e) {
+            futures.forEach(future -> future.cancel(true));
+            target.abort(path, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 文件分片并发上传, 各分片由工作线程按位置读取 (FileChannel 定位读), 完成后按分片顺序合并
+     *
+     * @param path        格式化后的对象路径
+     * @param file        文件对象
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果, 覆盖条件不满足时返回 false
+     * @throws Exception 上传异常(已中止分片上传)
+     */
+    boolean uploadFile(String path, File file, String contentType, PutCondition condition) throws Exception {
+        try {
+            return doUploadFile(path, file, contentType, condition);
+        } catch (Exception e) {
+            if (!isUploadMissing(e)) {
+                throw e;
+            }
+            // uploadId 已过期或被中止, 断点记录已删除, 重新初始化分片上传(只重试一次)
+            log.warn("对象 [" + path + "] 分片上传 uploadId 已失效, 重新上传");
+            return doUploadFile(path, file, contentType, condition);
+        }
+    }
+
+    private boolean doUploadFile(String path, File file, String contentType, PutCondition condition) throws Exception {
+        final long length = file.length();
+        final int filePartSize = filePartSize(length);
+        final int partCount = (int) ((length + filePartSize - 1) / filePartSize);
+        if (partCount == 0) {
+            return target.putSingle(path, new byte[0], 0, contentType, condition);
+        }
+        final UploadCheckpoint checkpoint = checkpointDir == null ? null
+                : openCheckpoint(path, file, contentType, condition, filePartSize);
+        final String uploadId = checkpoint != null ? checkpoint.getUploadId()
+                : target.initiate(path, contentType, condition);
+        final Map<Integer, String> completed = checkpoint != null ? checkpoint.getParts() : Collections.emptyMap();
+        final BufferPool bufferPool = new BufferPool(filePartSize, 0);
+        final List<Future<String>> futures = new ArrayList<>(partCount);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            for (int partNumber = 1; partNumber <= partCount; partNumber++) {
+                final String etag = completed.get(partNumber);
+                if (etag != null) {
+                    futures.add(CompletableFuture.completedFuture(etag));
+                    continue;
+                }
+                checkFailed(futures);
+                final long position = (long) (partNumber - 1) * filePartSize;
+                final int partLength = (int) Math.min(filePartSize, length - position);
+                final byte[] buffer = bufferPool.acquire();
+                final int number = partNumber;
+                futures.add(executor.submit(() -> {
+                    try {
+                        readFully(channel, buffer, partLength, position);
+                        final String partEtag = target.uploadPart(path, uploadId, number, buffer, partLength);
+                        if (checkpoint != null) {
+                            checkpoint.append(number, partEtag);
+                        }
+                        return partEtag;
+                    } finally {
+                        bufferPool.release(buffer);
+                    }
+                }));
+            }
+            final boolean result = target.complete(path, uploadId, await(futures), condition);
+            if (checkpoint != null) {
+                checkpoint.delete();
+            }
+            return result;
+        } catch (Exception e) {
+            futures.forEach(future -> future.cancel(true));
+            if (checkpoint != null && isUploadMissing(e)) {
+                // 服务端已无该 uploadId, 断点记录不可续传
+                checkpoint.delete();
+            } else if (checkpoint == null) {
+                target.abort(path, uploadId);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 异常(含分片任务的异常原因)是否为 uploadId 不存在
+     */
+    private boolean isUploadMissing(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (target.isUploadMissing(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 开启断点续传, 断点记录目录与过期时间(毫秒)
+     *
+     * @param checkpointDir 断点记录目录
+     * @param checkpointTtl 断点记录无进展超过该时间视为废弃
+     * @param name          后端名称, 区分同目录下不同后端的记录
+     */
+    void enableCheckpoint(String checkpointDir, long checkpointTtl, String name) {
+        this.checkpointDir = Paths.get(checkpointDir);
+        this.checkpointTtl = checkpointTtl;
+        this.checkpointName = name;
+    }
+
+    /**
+     * 读取可续传的断点记录, 无记录或记录与源文件不一致时新建分片上传
+     */
+    private UploadCheckpoint openCheckpoint(String path, File file, String contentType,
+                                            PutCondition condition, int filePartSize) throws Exception {
+        cleanExpiredCheckpoints();
+        final Path checkpointFile = UploadCheckpoint.locate(checkpointDir, checkpointName, path, file);
+        final UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointFile);
+        if (checkpoint != null) {
+            if (checkpoint.matches(path, file, filePartSize)) {
+                log.info("对象 [" + path + "] 断点续传 uploadId " + checkpoint.getUploadId()
+                        + " 已完成分片 " + checkpoint.getParts().size());
+                return checkpoint;
+            }
+            target.abort(path, checkpoint.getUploadId());
+            checkpoint.delete();
+        }
+        final String uploadId = target.initiate(path, contentType, condition);
+        try {
+            return UploadCheckpoint.create(checkpointFile, uploadId, path, file, filePartSize);
+        } catch (IOException e) {
+            target.abort(path, uploadId);
+            throw e;
+        }
+    }
+
+    /**
+     * 清理超过过期时间无进展的断点记录, 并中止对应的分片上传
+     */
+    void cleanExpiredCheckpoints() {
+        if (checkpointDir == null) {
+            return;
+        }
+        final long expireBefore = System.currentTimeMillis() - checkpointTtl;
+        for (Path checkpointFile : UploadCheckpoint.list(checkpointDir, checkpointName)) {
+            final UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointFile);
+            if (checkpoint == null) {
+                continue;
+            }
+            if (checkpoint.lastModified() < expireBefore) {
+                target.abort(checkpoint.getObjectPath(), checkpoint.getUploadId());
+                checkpoint.delete();
+                log.info("对象 [" + checkpoint.getObjectPath() + "] 断点记录过期, 已中止分片上传 "
+                        + checkpoint.getUploadId());
+            }
+        }
+    }
+
+    /**
+     * 文件分片大小, 超出分片数上限时按上限均分
+     */
+    int filePartSize(long length) {
+        final long minPartSize = (length + MAX_PART_COUNT - 1) / MAX_PART_COUNT;
+        return (int) Math.max(partSize, minPartSize);
+    }
+
+    private Future<String> submitPart(String path, String uploadId, int partNumber,
+                                      byte[] buffer, int length, BufferPool bufferPool) {
+        return executor.submit(() -> {
+            try {
+                return target.uploadPart(path, uploadId, partNumber, buffer, length);
+            } finally {
+                bufferPool.release(buffer);
+            }
+        });
+    }
+
+    /**
+     * 已完成的分片中存在失败时提前结束读取
+     */
+    static void checkFailed(List<Future<String>> futures) throws ExecutionException, InterruptedException {
+        for (Future<String> future : futures) {
+            if (future.isDone()) {
+                future.get();
+            }
+        }
+    }
+
+    /**
+     * 按分片顺序等待上传结果
+     *
+     * @return 分片 ETag, 下标为分片号 - 1
+     */
+    static List<String> await(List<Future<String>> futures) throws ExecutionException, InterruptedException {
+        final List<String> etags = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            etags.add(future.get());
+        }
+        return etags;
+    }
+
+    /**
+     * 读满缓冲区或读到流末尾
+     *
+     * @return 实际读取长度
+     */
+    static int readFully(InputStream inputStream, byte[] buffer) throws IOException {
+        int offset = 0;
+        while (offset < buffer.length) {
+            final int read = inputStream.read(buffer, offset, buffer.length - offset);
+            if (read < 0) {
+                break;
+            }
+            offset += read;
+        }
+        return offset;
+    }
+
+    /**
+     * 从文件指定位置读取 length 字节
+     */
+    static void readFully(FileChannel channel, byte[] buffer, int length, long position) throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, length);
+        while (byteBuffer.hasRemaining()) {
+            final int read = channel.read(byteBuffer, position + byteBuffer.position());
+            if (read < 0) {
+                throw new EOFException("文件长度不足 position " + (position + byteBuffer.position()));
+            }
+        }
+    }
+
+    /**
+     * 分片缓冲区池, 单次上传最多持有 partConcurrency 个缓冲区
+     */
+    private class BufferPool {
+
+        private final BlockingQueue<byte[]> free = new ArrayBlockingQueue<>(partConcurrency);
+
+        private final int bufferSize;
+
+        private int allocated;
+
+        /**
+         * @param bufferSize 缓冲区大小
+         * @param allocated  调用方已自行分配的缓冲区数
+         */
+        BufferPool(int bufferSize, int allocated) {
+            this.bufferSize = bufferSize;
+            this.allocated = allocated;
+        }
+
+        byte[] acquire() throws InterruptedException {
+            final byte[] buffer = free.poll();
+            if (buffer != null) {
+                return buffer;
+            }
+            synchronized (this) {
+                if (allocated < partConcurrency) {
+                    allocated++;
+                    return new byte[bufferSize];
+                }
+            }
+            return free.take();
+        }
+
+        void release(byte[] buffer) {
+            //noinspection ResultOfMethodCallIgnored
+            free.offer(buffer);
+        }
+    }
+
+    /**
+     * 分片上传目标(各云存储实现)
+     */
+    interface Target {
+
+        /**
+         * 单次上传(不足一个分片的小对象)
+         *
+         * @return 操作结果, 覆盖条件不满足时返回 false
+         */
+        boolean putSingle(String path, byte[] data, int length, String contentType, PutCondition condition) throws Exception;
+
+        /**
+         * 初始化分片上传
+         *
+         * @return uploadId
+         */
+        String initiate(String path, String contentType, PutCondition condition) throws Exception;
+
+        /**
+         * 上传分片
+         *
+         * @return 分片 ETag
+         */
+        String uploadPart(String path, String uploadId, int partNumber, byte[] data, int length) throws Exception;
+
+        /**
+         * 合并分片
+         *
+         * @param etags 分片 ETag, 下标为分片号 - 1
+         * @return 操作结果, 覆盖条件不满足时返回 false
+         */
+        boolean complete(String path, String uploadId, List<String> etags, PutCondition condition) throws Exception;
+
+        /**
+         * 中止分片上传, 不抛出异常
+         */
+        void abort(String path, String uploadId);
+
+        /**
+         * 异常是否为 uploadId 不存在(已过期或已被中止, NoSuchUpload)
+         */
+        boolean isUploadMissing(Throwable e);
+    }
+}
@@ -4,7 +4,12 @@ import io.minio.credentials.AssumeRoleProvider;
 
 import java.io.File;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.stream.Stream;
 
 /**********************************
  * @Author YSW
@@ -57,6 +62,41 @@ public interface ObjectCloudStorage {
         return false;
     }
 
+    /**
+     * 按覆盖策略上传对象
+     * @param objectPath 对象存储路径
+     * @param file 文件对象
+     * @param condition 覆盖策略
+     * @return 操作结果, 条件不满足(对象已存在 / ETag 不匹配)时返回 false
+     */
+    default boolean putObject(String objectPath, File file, PutCondition condition) {
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传流对象
+     * @param objectPath 对象存储路径
+     * @param inputStream 字节数流对象
+     * @param contentType 对象头类型
+     * @param condition 覆盖策略
+     * @return 操作结果, 条件不满足(对象已存在 / ETag 不匹配)时返回 false
+     */
+    default boolean putObject(String objectPath, InputStream inputStream, String contentType, PutCondition condition) {
+        return false;
+    }
+
+    /**
+     * 按覆盖策略上传字节数组对象
+     * @param objectPath 对象存储路径
+     * @param content 对象字节数组
+     * @param contentType 对象头类型
+     * @param condition 覆盖策略
+     * @return 操作结果, 条件不满足(对象已存在 / ETag 不匹配)时返回 false
+     */
+    default boolean putObject(String objectPath, byte[] content, String contentType, PutCondition condition) {
+        return false;
+    }
+
     /**
      * 上传可追加字节流对象
      * @param objectPath 对象存储路径
@@ -107,6 +147,66 @@ public interface ObjectCloudStorage {
         return null;
     }
 
+    /**
+     * 对象范围获取
+     * @param objectPath 对象存储路径
+     * @param offset 起始位置
+     * @param length 读取长度, 小于 0 时读取到对象末尾
+     * @return 操作结果, 范围信息见 {@link CosObject#getRangeStart()} / {@link CosObject#getTotalLength()}
+     */
+    default CosObject getObject(String objectPath, long offset, long length) {
+        return null;
+    }
+
+    /**
+     * 对象末尾范围获取(如文件尾部索引)
+     * @param objectPath 对象存储路径
+     * @param suffixLength 读取对象最后 suffixLength 个字节
+     * @return 操作结果
+     */
+    default CosObject getObjectSuffix(String objectPath, long suffixLength) {
+        return null;
+    }
+
+    /**
+     * 对象元数据获取(不读取对象内容)
+     * @param objectPath 对象存储路径
+     * @return 对象元数据, 对象不存在时返回 null
+     */
+    default CosObject statObject(String objectPath) {
+        return null;
+    }
+
+    /**
+     * 多连接分段下载对象到本地文件
+     * @param objectPath 对象存储路径
+     * @param target 本地目标文件
+     * @return 操作结果
+     */
+    default boolean downloadToFile(String objectPath, Path target) {
+        return false;
+    }
+
+    /**
+     * 对象内容写入通道(写入 FileChannel 时使用 transferFrom), 不关闭目标通道
+     * @param objectPath 对象存储路径
+     * @param target 目标通道
+     * @return 操作结果
+     */
+    default boolean transferTo(String objectPath, WritableByteChannel target) {
+        return false;
+    }
+
+    /**
+     * 对象内容写入输出流, 不关闭目标输出流
+     * @param objectPath 对象存储路径
+     * @param target 目标输出流
+     * @return 操作结果
+     */
+    default boolean transferTo(String objectPath, OutputStream target) {
+        return false;
+    }
+
     /**
      * 获取对象(通过对象资源地址)
      * @param objectUrl 资源对象地址
@@ -117,14 +217,55 @@ public interface ObjectCloudStorage {
     }
 
     /**
-     * 对象删除
+     * 对象删除(幂等)
      * @param objectPath 对象存储路径
-     * @return 操作结果
+     * @return 操作结果, 对象不存在时同样返回 true, 请求失败时返回 false
      */
     default boolean deleteObject(String objectPath) {
         return false;
     }
 
+    /**
+     * 批量删除对象
+     * @param objectPaths 对象存储路径
+     * @return 删除结果(含各对象的失败原因)
+     */
+    default BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        return null;
+    }
+
+    /**
+     * 列举对象, 按页惰性请求, 迭代到页末尾时才请求下一页; 使用完毕后应关闭返回的流
+     * @param prefix 路径前缀, 为空时列举全部对象
+     * @param delimiter 分隔符(如 "/"), 为空时递归列举全部层级; 不为空时下一级目录合并为目录条目
+     * @return 对象条目流, 请求失败时在迭代中抛出 IllegalStateException
+     */
+    default Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        return null;
+    }
+
+    /**
+     * 复制前缀下的全部对象(服务端复制, 并发执行)
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀, 不能与源前缀重叠
+     * @param overwrite 目标对象已存在时是否覆盖, 不覆盖时跳过
+     * @return 复制结果(含吞吐量及各对象的失败原因)
+     */
+    default PrefixCopyResult copyPrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return null;
+    }
+
+    /**
+     * 移动前缀下的全部对象, 复制成功的源对象分批删除
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀, 不能与源前缀重叠
+     * @param overwrite 目标对象已存在时是否覆盖, 不覆盖时跳过且保留源对象
+     * @return 移动结果(含吞吐量及各对象的失败原因)
+     */
+    default PrefixCopyResult movePrefix(String sourcePrefix, String targetPrefix, boolean overwrite) {
+        return null;
+    }
+
     /**
      * 对象是否存在
      *
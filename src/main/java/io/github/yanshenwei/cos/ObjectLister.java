@@ -0,0 +1,192 @@
+package io.github.yanshenwei.cos;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**********************************
+ * @Author YSW
+ * @Description 分页列举: 迭代到当前页末尾时才以续传标记请求下一页, 内存中只保留当前页;
+ * 启用预取时取得一页后立即在后台请求下一页(最多多占用一页内存)
+ * @Date 2026/10/18 - 20:10
+ **********************************/
+
+final class ObjectLister implements Iterator<CosObjectSummary> {
+
+    private final PageFetcher fetcher;
+
+    private final Executor prefetchExecutor;
+
+    private Iterator<CosObjectSummary> current = Collections.emptyIterator();
+
+    /**
+     * 下一页的续传标记, 为 null 且已请求过第一页时列举结束
+     */
+    private String nextToken;
+
+    private boolean started;
+
+    private CompletableFuture<Page> prefetched;
+
+    private volatile boolean closed;
+
+    private ObjectLister(PageFetcher fetcher, Executor prefetchExecutor) {
+        this.fetcher = fetcher;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * @param fetcher          单页请求
+     * @param prefetchExecutor 预取线程池, 为 null 时不预取
+     * @return 惰性对象流, 关闭时放弃预取中的页; 请求失败时在迭代中抛出 IllegalStateException
+     */
+    static Stream<CosObjectSummary> stream(PageFetcher fetcher, Executor prefetchExecutor) {
+        final ObjectLister lister = new ObjectLister(fetcher, prefetchExecutor);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lister,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(lister::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed || (started && nextToken == null)) {
+                return false;
+            }
+            // 带分隔符列举时, 被截断的页可能没有任何条目
+            nextPage();
+        }
+        return true;
+    }
+
+    @Override
+    public CosObjectSummary next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private void nextPage() {
+        final Page page = prefetched != null ? await(prefetched) : fetch(nextToken);
+        prefetched = null;
+        started = true;
+        nextToken = page.nextToken;
+        current = page.summaries.iterator();
+        if (nextToken != null && prefetchExecutor != null && !closed) {
+            final String token = nextToken;
+            try {
+                prefetched = CompletableFuture.supplyAsync(() -> fetch(token), prefetchExecutor);
+            } catch (RejectedExecutionException e) {
+                // 线程池繁忙时在迭代线程中请求下一页
+                prefetched = null;
+            }
+        }
+    }
+
+    private Page fetch(String token) {
+        try {
+            return fetcher.fetch(token);
+        } catch (Exception e) {
+            throw new IllegalStateException("对象列举失败 " + e.getMessage(), e);
+        }
+    }
+
+    private static Page await(CompletableFuture<Page> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("对象列举被中断", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("对象列举失败 " + cause.getMessage(), cause);
+        }
+    }
+
+    private void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (prefetched != null) {
+            prefetched.cancel(false);
+            prefetched = null;
+        }
+    }
+
+    /**
+     * 去掉全局前缀, 返回可直接用于其他对象操作的路径
+     */
+    static String relativize(String root, String key) {
+        return key.startsWith(root) ? key.substring(root.length()) : key;
+    }
+
+    /**
+     * 列举结果中的 ETag 带引号, 与 statObject 返回的格式保持一致
+     */
+    static String etag(String etag) {
+        return etag == null ? null : etag.replace("\"", "");
+    }
+
+    static CosObjectSummary directory(String path) {
+        final CosObjectSummary summary = new CosObjectSummary();
+        summary.setPath(path);
+        summary.setDirectory(true);
+        return summary;
+    }
+
+    /**
+     * 单页请求(各云存储实现)
+     */
+    interface PageFetcher {
+
+        /**
+         * @param continuationToken 续传标记, 第一页为 null
+         */
+        Page fetch(String continuationToken) throws Exception;
+    }
+
+    static final class Page {
+
+        private final List<CosObjectSummary> summaries;
+
+        private final String nextToken;
+
+        /**
+         * @param objects     对象条目(按路径排序)
+         * @param directories 目录条目(按路径排序)
+         * @param nextToken   下一页的续传标记, 最后一页为 null
+         */
+        Page(List<CosObjectSummary> objects, List<CosObjectSummary> directories, String nextToken) {
+            this.nextToken = nextToken;
+            if (directories.isEmpty()) {
+                this.summaries = objects;
+                return;
+            }
+            // 云存储分别返回对象与公共前缀, 合并后与不带分隔符时一样按路径排序
+            this.summaries = new ArrayList<>(objects.size() + directories.size());
+            int i = 0;
+            int j = 0;
+            while (i < objects.size() || j < directories.size()) {
+                if (j == directories.size() || (i < objects.size()
+                        && objects.get(i).getPath().compareTo(directories.get(j).getPath()) <= 0)) {
+                    summaries.add(objects.get(i++));
+                } else {
+                    summaries.add(directories.get(j++));
+                }
+            }
+        }
+    }
+}
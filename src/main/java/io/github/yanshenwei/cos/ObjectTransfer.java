@@ -0,0 +1,131 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**********************************
+ * @Author YSW
+ * @Description 对象内容直接写入通道/输出流, 复用池化的直接内存缓冲区, 写入文件时使用 FileChannel.transferFrom
+ * @Date 2026/10/18 - 13:20
+ **********************************/
+
+final class ObjectTransfer {
+
+    private static final Logger log = LoggerFactory.getLogger(ObjectTransfer.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 空闲缓冲区上限, 超出部分用完即丢弃
+     */
+    private static final BlockingQueue<ByteBuffer> FREE =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    private ObjectTransfer() {
+    }
+
+    /**
+     * 将对象内容写入通道, 无论成功与否都会关闭对象响应流, 不关闭目标通道
+     *
+     * @param cosObject 获取到的对象
+     * @param target    目标通道
+     * @return 操作结果
+     */
+    static boolean transfer(CosObject cosObject, WritableByteChannel target) {
+        if (cosObject == null || cosObject.getInputStream() == null) {
+            return false;
+        }
+        try (InputStream inputStream = cosObject.getInputStream()) {
+            final long transferred = transfer(inputStream, target);
+            log.debug("对象 [" + cosObject.getPath() + "] 传输完成 " + transferred + " 字节");
+            return true;
+        } catch (IOException e) {
+            log.error("对象 [" + cosObject.getPath() + "] 传输异常 " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 将对象内容写入输出流, 无论成功与否都会关闭对象响应流, 不关闭目标输出流
+     *
+     * @param cosObject 获取到的对象
+     * @param target    目标输出流
+     * @return 操作结果
+     */
+    static boolean transfer(CosObject cosObject, OutputStream target) {
+        if (target instanceof FileOutputStream) {
+            return transfer(cosObject, ((FileOutputStream) target).getChannel());
+        }
+        final boolean result = transfer(cosObject, Channels.newChannel(target));
+        if (result) {
+            try {
+                target.flush();
+            } catch (IOException e) {
+                log.error("对象 [" + cosObject.getPath() + "] 传输异常 " + e.getMessage());
+                return false;
+            }
+        }
+        return result;
+    }
+
+    private static long transfer(InputStream inputStream, WritableByteChannel target) throws IOException {
+        if (inputStream instanceof ByteBufferInputStream) {
+            // 缓存命中的对象直接写出映射文件或直接内存
+            final ByteBuffer content = ((ByteBufferInputStream) inputStream).buffer();
+            long transferred = 0;
+            while (content.hasRemaining()) {
+                transferred += target.write(content);
+            }
+            return transferred;
+        }
+        final ReadableByteChannel source = Channels.newChannel(inputStream);
+        if (target instanceof FileChannel) {
+            return transferToFile(source, (FileChannel) target);
+        }
+        ByteBuffer buffer = FREE.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        }
+        try {
+            long transferred = 0;
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } finally {
+            buffer.clear();
+            //noinspection ResultOfMethodCallIgnored
+            FREE.offer(buffer);
+        }
+    }
+
+    /**
+     * 从文件通道当前位置开始写入, 完成后将位置移动到写入末尾
+     */
+    private static long transferToFile(ReadableByteChannel source, FileChannel target) throws IOException {
+        final long start = target.position();
+        long position = start;
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, Long.MAX_VALUE - position)) > 0) {
+            position += transferred;
+        }
+        target.position(position);
+        return position - start;
+    }
+}
@@ -0,0 +1,264 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**********************************
+ * @Author YSW
+ * @Description 前缀复制 / 移动: 边列举源前缀边提交服务端复制, 同时在途的复制数有上限, 内存占用与对象数无关.
+ * 不覆盖时同时按序列举目标前缀, 归并跳过已存在的目标对象, 不再逐个检查是否存在; 列举之后才出现的目标对象由服务端条件复制跳过;
+ * 移动时复制成功的源对象每满一批即以批量删除删除. 复制在云存储的线程池中执行, 线程池已满时在调用线程中执行
+ * @Date 2026/10/18 - 20:40
+ **********************************/
+
+final class PrefixCopier {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefixCopier.class);
+
+    /**
+     * 进度日志间隔(毫秒)
+     */
+    private static final long PROGRESS_INTERVAL = 10 * 1000L;
+
+    private final ObjectCloudStorage storage;
+
+    private final String sourcePrefix;
+
+    private final String targetPrefix;
+
+    private final boolean move;
+
+    private final Executor executor;
+
+    private final Semaphore inFlight;
+
+    private final int concurrency;
+
+    private final Map<String, String> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * 复制成功, 等待删除的源对象(仅移动)
+     */
+    private final List<String> pendingDeletes = new ArrayList<>();
+
+    private final AtomicLong copied = new AtomicLong();
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private long listed;
+
+    private final AtomicLong skipped = new AtomicLong();
+
+    private long deleted;
+
+    private final long start = System.currentTimeMillis();
+
+    private PrefixCopier(ObjectCloudStorage storage, String sourcePrefix, String targetPrefix, boolean move,
+                         Executor executor, int concurrency) {
+        this.storage = storage;
+        this.sourcePrefix = sourcePrefix;
+        this.targetPrefix = targetPrefix;
+        this.move = move;
+        this.executor = executor;
+        this.concurrency = Math.max(1, concurrency);
+        this.inFlight = new Semaphore(this.concurrency);
+    }
+
+    /**
+     * @param storage      执行列举 / 复制 / 批量删除的云存储
+     * @param sourcePrefix 源路径前缀
+     * @param targetPrefix 目标路径前缀, 源对象路径中的源前缀替换为目标前缀
+     * @param overwrite    目标对象已存在时是否覆盖
+     * @param move         复制成功后是否删除源对象
+     * @param executor     执行复制的线程池(云存储的异步线程池), 不能是复制操作内部会等待的线程池
+     * @param concurrency  同时执行的复制数, 不应超过线程池的线程数或虚拟线程许可数
+     * @return 复制结果
+     */
+    static PrefixCopyResult copy(ObjectCloudStorage storage, String sourcePrefix, String targetPrefix,
+                                 boolean overwrite, boolean move, Executor executor, int concurrency) {
+        final PrefixCopier copier = new PrefixCopier(storage, normalize(sourcePrefix), normalize(targetPrefix),
+                move, executor, concurrency);
+        if (directory(copier.sourcePrefix).startsWith(directory(copier.targetPrefix))) {
+            // 源目录在目标目录内(或相同)时, 复制出的对象可能覆盖尚未复制的源对象
+            log.error("源前缀 [" + sourcePrefix + "] 与目标前缀 [" + targetPrefix + "] 重叠");
+            copier.failures.put(sourcePrefix, "源前缀与目标前缀重叠");
+            return copier.result();
+        }
+        copier.run(overwrite);
+        return copier.result();
+    }
+
+    private void run(boolean overwrite) {
+        // 目标前缀在源前缀内时, 源列举跳过目标前缀下的对象(复制出的对象或原有的目标对象)
+        final boolean nested = targetPrefix.startsWith(sourcePrefix);
+        try (Stream<CosObjectSummary> sources = storage.listObjects(sourcePrefix, null);
+             Stream<CosObjectSummary> targets = overwrite ? null : storage.listObjects(targetPrefix, null)) {
+            if (sources == null) {
+                failures.put(sourcePrefix, "云存储未启用");
+                return;
+            }
+            final Iterator<CosObjectSummary> existing = targets == null ? null : targets.iterator();
+            String existingSuffix = null;
+            long lastReport = start;
+            for (Iterator<CosObjectSummary> iterator = sources.iterator(); iterator.hasNext(); ) {
+                final CosObjectSummary summary = iterator.next();
+                if (summary.isDirectory() || !summary.getPath().startsWith(sourcePrefix)
+                        || (nested && summary.getPath().startsWith(targetPrefix))) {
+                    continue;
+                }
+                listed++;
+                final String suffix = summary.getPath().substring(sourcePrefix.length());
+                if (existing != null) {
+                    // 两次列举均按路径排序, 替换前缀不改变后缀的顺序
+                    while ((existingSuffix == null || compare(existingSuffix, suffix) < 0) && existing.hasNext()) {
+                        existingSuffix = ObjectLister.relativize(targetPrefix, existing.next().getPath());
+                    }
+                    if (suffix.equals(existingSuffix)) {
+                        skipped.incrementAndGet();
+                        continue;
+                    }
+                }
+                inFlight.acquire();
+                try {
+                    executor.execute(() -> copyOne(summary, targetPrefix + suffix, overwrite));
+                } catch (RejectedExecutionException e) {
+                    // 线程池已满或已关闭, 在调用线程中复制
+                    copyOne(summary, targetPrefix + suffix, overwrite);
+                }
+                deletePending(BatchDeleter.MAX_KEYS_PER_REQUEST);
+                final long now = System.currentTimeMillis();
+                if (now - lastReport >= PROGRESS_INTERVAL) {
+                    lastReport = now;
+                    log.info(progress());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(sourcePrefix, "复制被中断");
+        } catch (IllegalStateException e) {
+            log.error("源前缀 [" + sourcePrefix + "] 列举中断 " + e.getMessage());
+            failures.put(sourcePrefix, e.getMessage());
+        } finally {
+            // 等待在途复制结束, 删除剩余已复制的源对象
+            inFlight.acquireUninterruptibly(concurrency);
+            inFlight.release(concurrency);
+            deletePending(1);
+        }
+        log.info(progress());
+    }
+
+    /**
+     * 复制单个对象; 不覆盖时由服务端条件复制保证列举之后新出现的目标对象不被覆盖, 复制未成功且目标已存在时记为跳过
+     */
+    private void copyOne(CosObjectSummary summary, String targetPath, boolean overwrite) {
+        try {
+            if (storage.copyObject(summary.getPath(), targetPath, overwrite)) {
+                copied.incrementAndGet();
+                bytes.addAndGet(summary.getSize());
+                if (move) {
+                    synchronized (pendingDeletes) {
+                        pendingDeletes.add(summary.getPath());
+                    }
+                }
+            } else if (!overwrite && storage.isObjectExist(targetPath)) {
+                skipped.incrementAndGet();
+            } else {
+                failures.put(summary.getPath(), "复制失败");
+            }
+        } catch (RuntimeException e) {
+            failures.put(summary.getPath(), "复制失败 " + e.getMessage());
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * 待删除的源对象达到 threshold 个时批量删除(调用线程执行)
+     */
+    private void deletePending(int threshold) {
+        final List<String> batch;
+        synchronized (pendingDeletes) {
+            if (pendingDeletes.isEmpty() || pendingDeletes.size() < threshold) {
+                return;
+            }
+            batch = new ArrayList<>(pendingDeletes);
+            pendingDeletes.clear();
+        }
+        BatchDeleteResult result;
+        try {
+            result = storage.deleteObjects(batch);
+        } catch (RuntimeException e) {
+            log.error("源对象批量删除异常 " + e.getMessage());
+            result = null;
+        }
+        if (result == null) {
+            batch.forEach(path -> failures.put(path, "删除源对象失败"));
+            return;
+        }
+        deleted += result.getDeleted();
+        result.getFailures().forEach((path, reason) -> failures.put(path, "删除源对象失败 " + reason));
+    }
+
+    private PrefixCopyResult result() {
+        final Map<String, String> snapshot;
+        synchronized (failures) {
+            snapshot = new LinkedHashMap<>(failures);
+        }
+        return new PrefixCopyResult(sourcePrefix, targetPrefix, listed, copied.get(), skipped.get(), deleted,
+                bytes.get(), System.currentTimeMillis() - start, snapshot);
+    }
+
+    private String progress() {
+        final PrefixCopyResult result = result();
+        return (move ? "前缀移动 [" : "前缀复制 [") + sourcePrefix + "] -> [" + targetPrefix + "] 已列举 "
+                + result.getListed() + " 个, 已复制 " + result.getCopied() + " 个, 跳过 " + result.getSkipped()
+                + " 个, 已删除 " + result.getDeleted() + " 个, 失败 " + result.getFailures().size() + " 个, "
+                + String.format("%.1f 个/秒, %.1f MB/秒", result.getObjectsPerSecond(),
+                result.getBytesPerSecond() / 1024 / 1024);
+    }
+
+    /**
+     * 去掉开头的 "/" 并合并连续的 "/", 与列举结果中的路径格式一致
+     */
+    private static String normalize(String prefix) {
+        final String path = prefix == null ? "" : prefix.replaceAll("/+", "/");
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    /**
+     * 以 "/" 结尾的目录形式, 空前缀(根目录)不变; 用于判断目录包含关系, "img" 与 "img2" 互不包含
+     */
+    private static String directory(String prefix) {
+        return prefix.isEmpty() || prefix.endsWith("/") ? prefix : prefix + "/";
+    }
+
+    /**
+     * 按码点比较, 与云存储列举使用的 UTF-8 字节序一致
+     */
+    private static int compare(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            final int x = a.codePointAt(i);
+            final int y = b.codePointAt(j);
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+            i += Character.charCount(x);
+            j += Character.charCount(y);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    }
+}
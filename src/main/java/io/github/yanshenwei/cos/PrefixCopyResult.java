@@ -0,0 +1,132 @@
+package io.github.yanshenwei.cos;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**********************************
+ * @Author YSW
+ * @Description 前缀复制 / 移动结果
+ * @Date 2026/10/18 - 20:40
+ **********************************/
+
+public class PrefixCopyResult {
+
+    private final String sourcePrefix;
+
+    private final String targetPrefix;
+
+    private final long listed;
+
+    private final long copied;
+
+    private final long skipped;
+
+    private final long deleted;
+
+    private final long bytes;
+
+    private final long elapsedMillis;
+
+    private final Map<String, String> failures;
+
+    public PrefixCopyResult(String sourcePrefix, String targetPrefix, long listed, long copied, long skipped,
+                            long deleted, long bytes, long elapsedMillis, Map<String, String> failures) {
+        this.sourcePrefix = sourcePrefix;
+        this.targetPrefix = targetPrefix;
+        this.listed = listed;
+        this.copied = copied;
+        this.skipped = skipped;
+        this.deleted = deleted;
+        this.bytes = bytes;
+        this.elapsedMillis = elapsedMillis;
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    public String getSourcePrefix() {
+        return sourcePrefix;
+    }
+
+    public String getTargetPrefix() {
+        return targetPrefix;
+    }
+
+    /**
+     * 源前缀下列举到的对象数
+     */
+    public long getListed() {
+        return listed;
+    }
+
+    /**
+     * 复制成功的对象数
+     */
+    public long getCopied() {
+        return copied;
+    }
+
+    /**
+     * 目标对象已存在(不覆盖)而跳过的对象数
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * 移动时已删除的源对象数
+     */
+    public long getDeleted() {
+        return deleted;
+    }
+
+    /**
+     * 复制成功的对象总字节数
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 每秒复制的对象数
+     */
+    public double getObjectsPerSecond() {
+        return elapsedMillis == 0 ? copied : copied * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 每秒复制的字节数
+     */
+    public double getBytesPerSecond() {
+        return elapsedMillis == 0 ? bytes : bytes * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * 复制或删除失败的源对象路径 -> 失败原因; 列举失败时以源前缀为键
+     */
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "PrefixCopyResult{" +
+                "sourcePrefix='" + sourcePrefix + '\'' +
+                ", targetPrefix='" + targetPrefix + '\'' +
+                ", listed=" + listed +
+                ", copied=" + copied +
+                ", skipped=" + skipped +
+                ", deleted=" + deleted +
+                ", bytes=" + bytes +
+                ", elapsedMillis=" + elapsedMillis +
+                ", objectsPerSecond=" + String.format("%.1f", getObjectsPerSecond()) +
+                ", failures=" + failures.size() +
+                '}';
+    }
+}
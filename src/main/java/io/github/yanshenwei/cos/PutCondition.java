@@ -0,0 +1,73 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 上传覆盖策略, 由服务端条件请求头一次判定
+ * @Date 2026/10/18 - 09:30
+ **********************************/
+
+public class PutCondition {
+
+    /**
+     * 覆盖策略
+     */
+    public enum Policy {
+        /**
+         * 直接覆盖
+         */
+        OVERWRITE,
+        /**
+         * 对象不存在时写入 (If-None-Match: * / x-oss-forbid-overwrite)
+         */
+        IF_ABSENT,
+        /**
+         * 对象 ETag 匹配时写入 (If-Match); oss 合并分片不支持该条件,
+         * oss 上需要分片上传的对象(流对象超过一个分片, 文件超过分片阈值)直接返回失败
+         */
+        IF_MATCH
+    }
+
+    private static final PutCondition OVERWRITE = new PutCondition(Policy.OVERWRITE, null);
+
+    private static final PutCondition IF_ABSENT = new PutCondition(Policy.IF_ABSENT, null);
+
+    private final Policy policy;
+
+    private final String etag;
+
+    private PutCondition(Policy policy, String etag) {
+        this.policy = policy;
+        this.etag = etag;
+    }
+
+    public static PutCondition overwrite() {
+        return OVERWRITE;
+    }
+
+    public static PutCondition ifAbsent() {
+        return IF_ABSENT;
+    }
+
+    public static PutCondition ifMatch(String etag) {
+        if (etag == null || etag.trim().length() == 0) {
+            throw new IllegalArgumentException("etag 不能为空");
+        }
+        return new PutCondition(Policy.IF_MATCH, etag);
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    @Override
+    public String toString() {
+        return "PutCondition{" +
+                "policy=" + policy +
+                ", etag='" + etag + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,146 @@
+package io.github.yanshenwei.cos;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**********************************
+ * @Author YSW
+ * @Description 多连接分段下载, 各分段并发请求后按位置写入本地文件
+ * @Date 2026/10/18 - 11:50
+ **********************************/
+
+class RangeDownloader {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Source source;
+
+    private final ExecutorService executor;
+
+    private final int partSize;
+
+    private final int partConcurrency;
+
+    RangeDownloader(Source source, ExecutorService executor, int partSize, int partConcurrency) {
+        this.source = source;
+        this.executor = executor;
+        this.partSize = partSize;
+        this.partConcurrency = Math.max(1, partConcurrency);
+    }
+
+    /**
+     * 下载对象到本地文件, 先写入同目录临时文件, 完成校验后原子替换目标文件
+     *
+     * @param path   格式化后的对象路径
+     * @param length 对象长度
+     * @param etag   对象 ETag, 各分段以 If-Match 请求保证读取的是同一版本
+     * @param target 目标文件
+     * @throws Exception 下载异常(已删除临时文件)
+     */
+    void download(String path, long length, String etag, Path target) throws Exception {
+        final Path absolute = target.toAbsolutePath();
+        if (absolute.getParent() != null) {
+            Files.createDirectories(absolute.getParent());
+        }
+        final Path temp = absolute.resolveSibling(absolute.getFileName() + ".download");
+        final Semaphore inFlight = new Semaphore(partConcurrency);
+        final List<Future<?>> futures = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (length > 0) {
+                // 预分配文件长度
+                channel.write(ByteBuffer.wrap(new byte[1]), length - 1);
+            }
+            for (long start = 0; start < length; start += partSize) {
+                final long rangeStart = start;
+                final long rangeEnd = Math.min(start + partSize, length) - 1;
+                inFlight.acquire();
+                try {
+                    checkFailed(futures);
+                    futures.add(executor.submit(() -> {
+                        try {
+                            downloadRange(path, rangeStart, rangeEnd, etag, channel);
+                        } finally {
+                            inFlight.release();
+                        }
+                        return null;
+                    }));
+                } catch (Exception e) {
+                    inFlight.release();
+                    throw e;
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            if (channel.size() != length) {
+                throw new IOException("对象 [" + path + "] 下载长度不一致 " + channel.size() + " != " + length);
+            }
+            channel.force(false);
+        } catch (Exception e) {
+            futures.forEach(future -> future.cancel(true));
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 已有分段失败时提前结束, 不再提交后续分段
+     */
+    private static void checkFailed(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            if (future.isDone()) {
+                future.get();
+            }
+        }
+    }
+
+    private void downloadRange(String path, long start, long end, String etag, FileChannel channel) throws Exception {
+        final ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+        long position = start;
+        try (InputStream inputStream = source.openRange(path, start, end, etag)) {
+            int read;
+            while (position <= end && (read = inputStream.read(buffer.array(), 0,
+                    (int) Math.min(buffer.capacity(), end - position + 1))) >= 0) {
+                buffer.limit(read);
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+                buffer.clear();
+            }
+        }
+        if (position != end + 1) {
+            throw new EOFException("对象 [" + path + "] 分段 " + start + "-" + end + " 读取不完整");
+        }
+    }
+
+    /**
+     * 分段读取来源(各云存储实现)
+     */
+    interface Source {
+
+        /**
+         * 打开对象指定范围的字节流
+         *
+         * @param path  格式化后的对象路径
+         * @param start 起始位置(包含)
+         * @param end   结束位置(包含)
+         * @param etag  对象 ETag
+         * @return 字节流
+         */
+        InputStream openRange(String path, long start, long end, String etag) throws Exception;
+    }
+}
@@ -0,0 +1,277 @@
+package io.github.yanshenwei.cos;
+
+import io.github.yanshenwei.cos.config.CosConstants;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**********************************
+ * @Author YSW
+ * @Description 对象云存储 响应式单云适配操作, 路由规则与 CosSimpleModel 一致(oss 优先)
+ * 云存储 SDK 均为阻塞 IO, 分片上传在分片线程池执行, 其余操作在异步线程池执行, 调用线程不阻塞
+ * @Date 2026/10/18 - 14:20
+ **********************************/
+
+@Component
+@ConditionalOnClass(name = "reactor.core.publisher.Flux")
+public class ReactiveCosModel implements ReactiveObjectCloudStorage, ApplicationContextAware {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveCosModel.class);
+
+    private static final int READ_CHUNK_SIZE = 64 * 1024;
+
+    @Resource
+    private CosConstants.AliossConfig aliossConfig;
+
+    @Resource
+    private CosConstants.MinioConfig minioConfig;
+
+    private MinioModel minioModel;
+
+    private AliossModel aliossModel;
+
+    private CosCacheManager cacheManager;
+
+    /**
+     * 启用的云存储(oss 优先)异步线程池与分片线程池的调度器, 初始化时创建一次;
+     * 线程池由云存储实例持有并关闭, 调度器关闭时只停止接受任务
+     */
+    private Scheduler asyncScheduler;
+
+    private Scheduler partScheduler;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+        List<String> beanList = Arrays.asList(applicationContext.getBeanDefinitionNames());
+        cacheManager = applicationContext.getBean(CosCacheManager.class);
+        //noinspection AlibabaUndefineMagicConstant
+        if (beanList.contains("aliossModel")){
+            aliossModel = applicationContext.getBean(AliossModel.class);
+        }
+        //noinspection AlibabaUndefineMagicConstant
+        if (beanList.contains("minioModel")){
+            minioModel = applicationContext.getBean(MinioModel.class);
+        }
+    }
+
+    @PostConstruct
+    private void init() {
+        if (aliossConfig.isEnable()) {
+            asyncScheduler = Schedulers.fromExecutor(aliossModel.getAsyncExecutor());
+            partScheduler = Schedulers.fromExecutor(aliossModel.getMultipartUploader().getExecutor());
+        } else if (minioConfig.isEnable()) {
+            asyncScheduler = Schedulers.fromExecutor(minioModel.getAsyncExecutor());
+            partScheduler = Schedulers.fromExecutor(minioModel.getMultipartUploader().getExecutor());
+        }
+    }
+
+    @PreDestroy
+    private void destroy() {
+        if (asyncScheduler != null) {
+            asyncScheduler.dispose();
+        }
+        if (partScheduler != null) {
+            partScheduler.dispose();
+        }
+    }
+
+    /**
+     * 上传对象(指定覆盖策略)
+     *
+     * @param objectPath  对象存储路径
+     * @param content     对象内容
+     * @param contentType 对象头类型
+     * @param condition   覆盖策略
+     * @return 操作结果
+     */
+    @Override
+    public Mono<Boolean> putObject(String objectPath, Publisher<ByteBuffer> content, String contentType,
+                                  PutCondition condition) {
+        if (aliossConfig.isEnable()) {
+            return upload(aliossModel.getMultipartUploader(), aliossModel.getFormatObjectPath(objectPath), content, contentType, condition)
+                    .doFinally(signal -> cacheManager.invalidate(ReadRouter.OSS, objectPath));
+        }
+        if (minioConfig.isEnable()) {
+            return upload(minioModel.getMultipartUploader(), minioModel.getFormatObjectPath(objectPath), content, contentType, condition)
+                    .doFinally(signal -> cacheManager.invalidate(ReadRouter.MINIO, objectPath));
+        }
+        return Mono.just(false);
+    }
+
+    /**
+     * 获取对象内容
+     *
+     * @param objectPath 对象存储路径
+     * @return 对象内容
+     */
+    @Override
+    public Flux<ByteBuffer> getObject(String objectPath) {
+        if (aliossConfig.isEnable()) {
+            return read(() -> aliossModel.getObject(objectPath), objectPath);
+        }
+        if (minioConfig.isEnable()) {
+            return read(() -> minioModel.getObject(objectPath), objectPath);
+        }
+        return Flux.empty();
+    }
+
+    /**
+     * 切分为分片后上传, 首个分片不足分片大小时单次上传; 分片上传失败或被取消时中止分片上传
+     */
+    private Mono<Boolean> upload(MultipartUploader uploader, String path, Publisher<ByteBuffer> content,
+                                 String contentType, PutCondition condition) {
+        final MultipartUploader.Target target = uploader.getTarget();
+        final int partSize = uploader.getPartSize();
+        return Flux.defer(() -> {
+                    final PartChunker chunker = new PartChunker(partSize);
+                    return Flux.from(content)
+                            .concatMapIterable(chunker::add, 1)
+                            .concatWith(Mono.fromSupplier(chunker::flush));
+                })
+                .switchOnFirst((first, parts) -> {
+                    final byte[] data = first.get();
+                    if (data == null) {
+                        return parts.then(Mono.<Boolean>empty());
+                    }
+                    if (data.length < partSize) {
+                        return Mono.fromCallable(() -> target.putSingle(path, data, data.length, contentType, condition))
+                                .subscribeOn(asyncScheduler);
+                    }
+                    return Mono.fromCallable(() -> target.initiate(path, contentType, condition))
+                            .subscribeOn(asyncScheduler)
+                            .flatMap(uploadId -> parts.index()
+                                    .flatMapSequential(part -> {
+                                        final int partNumber = (int) (part.getT1() + 1);
+                                        if (partNumber > MultipartUploader.MAX_PART_COUNT) {
+                                            return Mono.error(new IOException(
+                                                    "对象 [" + path + "] 分片数超过上限 " + MultipartUploader.MAX_PART_COUNT));
+                                        }
+                                        return Mono.fromCallable(() -> target.uploadPart(path, uploadId, partNumber,
+                                                part.getT2(), part.getT2().length)).subscribeOn(partScheduler);
+                                    }, uploader.getPartConcurrency(), 1)
+                                    .collectList()
+                                    .flatMap(etags -> Mono.fromCallable(() -> target.complete(path, uploadId, etags, condition))
+                                            .subscribeOn(asyncScheduler))
+                                    .onErrorResume(e -> Mono.fromRunnable(() -> target.abort(path, uploadId))
+                                            .subscribeOn(asyncScheduler)
+                                            .then(Mono.error(e)))
+                                    .doOnCancel(() -> asyncScheduler.schedule(() -> target.abort(path, uploadId))));
+                })
+                .singleOrEmpty()
+                .doOnNext(result -> {
+                    if (result) {
+                        log.debug("对象 [" + path + "] 上传成功");
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("对象 [" + path + "] 上传异常 " + e.getMessage());
+                    return Mono.just(false);
+                })
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * 按下游需求逐块读取对象内容, 结束, 出错或取消时关闭对象响应流
+     */
+    private Flux<ByteBuffer> read(Supplier<CosObject> getObject, String objectPath) {
+        return Flux.using(() -> {
+                    final CosObject cosObject = getObject.get();
+                    if (cosObject == null || cosObject.getInputStream() == null) {
+                        throw new IOException("对象 [" + objectPath + "] 获取失败");
+                    }
+                    return cosObject.getInputStream();
+                }, inputStream -> Flux.<ByteBuffer>generate(sink -> {
+                    final byte[] chunk = new byte[READ_CHUNK_SIZE];
+                    try {
+                        final int read = inputStream.read(chunk);
+                        if (read < 0) {
+                            sink.complete();
+                        } else {
+                            sink.next(ByteBuffer.wrap(chunk, 0, read));
+                        }
+                    } catch (IOException e) {
+                        sink.error(e);
+                    }
+                }), inputStream -> {
+                    try {
+                        inputStream.close();
+                    } catch (IOException ignored) {
+                        // 读取已结束, 关闭失败不影响结果
+                    }
+                })
+                .subscribeOn(asyncScheduler);
+    }
+
+    /**
+     * 将任意大小的数据块拼接为固定大小的分片, 最后一个分片在上游结束时输出
+     */
+    private static class PartChunker {
+
+        private final int partSize;
+
+        private byte[] current;
+
+        private int position;
+
+        private boolean emitted;
+
+        PartChunker(int partSize) {
+            this.partSize = partSize;
+        }
+
+        List<byte[]> add(ByteBuffer buffer) {
+            List<byte[]> full = Collections.emptyList();
+            while (buffer.hasRemaining()) {
+                if (current == null) {
+                    current = new byte[partSize];
+                    position = 0;
+                }
+                final int length = Math.min(buffer.remaining(), partSize - position);
+                buffer.get(current, position, length);
+                position += length;
+                if (position == partSize) {
+                    if (full.isEmpty()) {
+                        full = new ArrayList<>(1);
+                    }
+                    full.add(current);
+                    current = null;
+                    emitted = true;
+                }
+            }
+            return full;
+        }
+
+        /**
+         * 剩余数据, 没有剩余且已输出过分片时返回 null(不输出), 空对象返回空数组
+         */
+        byte[] flush() {
+            if (current == null) {
+                return emitted ? null : new byte[0];
+            }
+            final byte[] last = Arrays.copyOf(current, position);
+            current = null;
+            return last;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.yanshenwei.cos;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+
+/**********************************
+ * @Author YSW
+ * @Description 对象云存储 响应式操作(需引入 reactor-core), 按下游需求读写, 不无界缓存数据
+ * @Date 2026/10/18 - 14:10
+ **********************************/
+
+public interface ReactiveObjectCloudStorage {
+
+    /**
+     * 上传对象, 按分片大小切分后分片上传, 在途数据不超过 分片大小 × (在途分片数 + 1)
+     * @param objectPath 对象存储路径
+     * @param content 对象内容
+     * @param contentType 对象头类型
+     * @return 操作结果
+     */
+    default Mono<Boolean> putObject(String objectPath, Publisher<ByteBuffer> content, String contentType) {
+        return putObject(objectPath, content, contentType, PutCondition.ifAbsent());
+    }
+
+    /**
+     * 上传对象(指定覆盖策略)
+     * @param objectPath 对象存储路径
+     * @param content 对象内容
+     * @param contentType 对象头类型
+     * @param condition 覆盖策略
+     * @return 操作结果, 覆盖条件不满足时返回 false
+     */
+    default Mono<Boolean> putObject(String objectPath, Publisher<ByteBuffer> content, String contentType,
+                                    PutCondition condition) {
+        return Mono.just(false);
+    }
+
+    /**
+     * 获取对象内容, 每次下游请求时读取一块数据
+     * @param objectPath 对象存储路径
+     * @return 对象内容, 对象获取失败时以 IOException 结束
+     */
+    default Flux<ByteBuffer> getObject(String objectPath) {
+        return Flux.empty();
+    }
+}
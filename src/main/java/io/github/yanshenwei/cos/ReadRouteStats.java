@@ -0,0 +1,83 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 读取路由统计快照(单个云存储)
+ * @Date 2026/10/18 - 16:10
+ **********************************/
+
+public class ReadRouteStats {
+
+    private final String backend;
+
+    private final double latencyMillis;
+
+    private final double errorRate;
+
+    private final int inFlight;
+
+    private final boolean healthy;
+
+    private final double weight;
+
+    public ReadRouteStats(String backend, double latencyMillis, double errorRate, int inFlight,
+                          boolean healthy, double weight) {
+        this.backend = backend;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.inFlight = inFlight;
+        this.healthy = healthy;
+        this.weight = weight;
+    }
+
+    /**
+     * 云存储名称(oss / minio)
+     */
+    public String getBackend() {
+        return backend;
+    }
+
+    /**
+     * EWMA 读取耗时(毫秒)
+     */
+    public double getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    /**
+     * EWMA 错误率
+     */
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    /**
+     * 在途读取请求数
+     */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * 路由权重, 各云存储权重之和为 1, 权重最大的为当前首选
+     */
+    public double getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "ReadRouteStats{" +
+                "backend='" + backend + '\'' +
+                ", latencyMillis=" + latencyMillis +
+                ", errorRate=" + errorRate +
+                ", inFlight=" + inFlight +
+                ", healthy=" + healthy +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.yanshenwei.cos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**********************************
+ * @Author YSW
+ * @Description 双云读取路由, 按各云存储的 EWMA 耗时, 错误率与在途请求数选择首选读取方,
+ * 并按探测比例将少量读取发往另一方以刷新其统计
+ * @Date 2026/10/18 - 16:15
+ **********************************/
+
+class ReadRouter {
+
+    static final String OSS = "oss";
+
+    static final String MINIO = "minio";
+
+    private final Backend oss = new Backend(OSS);
+
+    private final Backend minio = new Backend(MINIO);
+
+    private final double alpha;
+
+    private final double probeRatio;
+
+    private final double errorThreshold;
+
+    ReadRouter(double alpha, double probeRatio, double errorThreshold) {
+        this.alpha = Math.min(1, Math.max(0.01, alpha));
+        this.probeRatio = Math.min(1, Math.max(0, probeRatio));
+        this.errorThreshold = errorThreshold;
+    }
+
+    /**
+     * 本次读取的顺序, 第一个为首选读取方
+     */
+    String[] order() {
+        final boolean ossFirst = score(oss) <= score(minio);
+        final boolean probe = probeRatio > 0 && ThreadLocalRandom.current().nextDouble() < probeRatio;
+        return ossFirst != probe ? new String[]{OSS, MINIO} : new String[]{MINIO, OSS};
+    }
+
+    void begin(String name) {
+        backend(name).inFlight.incrementAndGet();
+    }
+
+    /**
+     * @param nanos   耗时
+     * @param success 是否读取成功
+     */
+    void end(String name, long nanos, boolean success) {
+        final Backend backend = backend(name);
+        backend.inFlight.decrementAndGet();
+        backend.update(nanos / 1_000_000D, success);
+    }
+
+    /**
+     * 结束但不计入统计(如对冲读取中被取消的一方)
+     */
+    void discard(String name) {
+        backend(name).inFlight.decrementAndGet();
+    }
+
+    List<ReadRouteStats> snapshot() {
+        final double ossWeight = weight(oss);
+        final double minioWeight = weight(minio);
+        final double total = ossWeight + minioWeight;
+        final List<ReadRouteStats> stats = new ArrayList<>(2);
+        stats.add(oss.snapshot(total > 0 ? ossWeight / total : 0.5));
+        stats.add(minio.snapshot(total > 0 ? minioWeight / total : 0.5));
+        return stats;
+    }
+
+    private Backend backend(String name) {
+        return OSS.equals(name) ? oss : minio;
+    }
+
+    private boolean healthy(Backend backend) {
+        return backend.errorRate() < errorThreshold;
+    }
+
+    /**
+     * 分数越小越优先, 不健康的一方排在健康的一方之后
+     */
+    private double score(Backend backend) {
+        final double score = backend.latency() * (1 + backend.inFlight.get());
+        return healthy(backend) ? score : Double.MAX_VALUE / 2 + score;
+    }
+
+    private double weight(Backend backend) {
+        if (!healthy(backend) && (healthy(oss) || healthy(minio))) {
+            return 0;
+        }
+        return 1 / Math.max(score(backend), 0.001);
+    }
+
+    private class Backend {
+
+        private final String name;
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        private double latency;
+
+        private double errorRate;
+
+        private boolean initialized;
+
+        Backend(String name) {
+            this.name = name;
+        }
+
+        synchronized void update(double millis, boolean success) {
+            if (!initialized) {
+                latency = millis;
+                errorRate = success ? 0 : 1;
+                initialized = true;
+                return;
+            }
+            latency += alpha * (millis - latency);
+            errorRate += alpha * ((success ? 0 : 1) - errorRate);
+        }
+
+        synchronized double latency() {
+            return latency;
+        }
+
+        synchronized double errorRate() {
+            return errorRate;
+        }
+
+        ReadRouteStats snapshot(double weight) {
+            return new ReadRouteStats(name, latency(), errorRate(), inFlight.get(), healthy(this), weight);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package io.github.yanshenwei.cos;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**********************************
+ * @Author YSW
+ * @Description 复制日志: 只追加写入的本地文件, 每行一条 "时间戳 操作 对象路径(URL 编码)";
+ * 已复制位置单独记录, 重启后从该位置继续; 全部复制完成时清空日志
+ * @Date 2026/10/18 - 16:40
+ **********************************/
+
+class ReplicationJournal implements AutoCloseable {
+
+    private static final String JOURNAL = "replication.journal";
+
+    private static final String POSITION = "replication.position";
+
+    private static final String FAILED = "replication.failed";
+
+    private final Path dir;
+
+    private final FileChannel channel;
+
+    ReplicationJournal(Path dir) throws IOException {
+        this.dir = dir;
+        Files.createDirectories(dir);
+        this.channel = FileChannel.open(dir.resolve(JOURNAL), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+    }
+
+    /**
+     * 写入中断留下的不完整行会与后续追加内容粘连, 启动时截断到最后一个换行
+     */
+    private void recover() throws IOException {
+        long end = channel.size();
+        final ByteBuffer one = ByteBuffer.allocate(1);
+        while (end > 0) {
+            one.clear();
+            channel.read(one, end - 1);
+            if (one.get(0) == '\n') {
+                break;
+            }
+            end--;
+        }
+        if (end < channel.size()) {
+            channel.truncate(end);
+            channel.force(true);
+        }
+        if (loadPosition() > end) {
+            savePosition(end);
+        }
+    }
+
+    /**
+     * 追加一条记录并同步落盘
+     */
+    synchronized void append(String op, String path, long timestamp) throws IOException {
+        final ByteBuffer line = ByteBuffer.wrap((timestamp + " " + op + " " + encode(path) + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        long position = channel.size();
+        while (line.hasRemaining()) {
+            position += channel.write(line, position);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * 从指定位置读取最多 max 条记录
+     */
+    Batch read(long offset, int max) throws IOException {
+        final long size = size();
+        final List<Entry> entries = new ArrayList<>();
+        long next = offset;
+        if (offset >= size) {
+            return new Batch(entries, next);
+        }
+        try (FileChannel reader = FileChannel.open(dir.resolve(JOURNAL), StandardOpenOption.READ)) {
+            reader.position(offset);
+            final InputStream inputStream = new BufferedInputStream(Channels.newInputStream(reader));
+            final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+            int b;
+            while (entries.size() < max && next < size && (b = inputStream.read()) >= 0) {
+                if (b != '\n') {
+                    line.write(b);
+                    continue;
+                }
+                next += line.size() + 1;
+                final Entry entry = parse(new String(line.toByteArray(), StandardCharsets.UTF_8));
+                if (entry != null) {
+                    entries.add(entry);
+                }
+                line.reset();
+            }
+        }
+        return new Batch(entries, next);
+    }
+
+    /**
+     * 统计指定位置之后的记录数
+     */
+    long count(long offset) throws IOException {
+        long count = 0;
+        long next = offset;
+        while (true) {
+            final Batch batch = read(next, 10000);
+            if (batch.next == next) {
+                return count;
+            }
+            count += batch.entries.size();
+            next = batch.next;
+        }
+    }
+
+    synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    long loadPosition() {
+        try {
+            final Path file = dir.resolve(POSITION);
+            if (!Files.isRegularFile(file)) {
+                return 0;
+            }
+            return Long.parseLong(new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim());
+        } catch (IOException | NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    void savePosition(long position) throws IOException {
+        final Path file = dir.resolve(POSITION);
+        final Path temp = dir.resolve(POSITION + ".tmp");
+        Files.write(temp, String.valueOf(position).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DSYNC);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 已全部复制(位置等于日志长度)时清空日志并将位置归零
+     *
+     * @return 是否已清空
+     */
+    synchronized boolean compact(long position) throws IOException {
+        if (position == 0 || position != channel.size()) {
+            return false;
+        }
+        savePosition(0);
+        channel.truncate(0);
+        channel.force(true);
+        return true;
+    }
+
+    /**
+     * 记录重试耗尽的条目, 供人工处理
+     */
+    synchronized void fail(Entry entry, String reason) throws IOException {
+        Files.write(dir.resolve(FAILED), (System.currentTimeMillis() + " " + entry.op + " " + encode(entry.path)
+                        + " " + encode(String.valueOf(reason)) + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static Entry parse(String line) {
+        final String[] parts = line.split(" ", 3);
+        if (parts.length < 3) {
+            return null;
+        }
+        try {
+            return new Entry(Long.parseLong(parts[0]), parts[1], URLDecoder.decode(parts[2], "UTF-8"));
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class Entry {
+
+        final long timestamp;
+
+        final String op;
+
+        final String path;
+
+        Entry(long timestamp, String op, String path) {
+            this.timestamp = timestamp;
+            this.op = op;
+            this.path = path;
+        }
+    }
+
+    static class Batch {
+
+        final List<Entry> entries;
+
+        /**
+         * 本批记录之后的位置
+         */
+        final long next;
+
+        Batch(List<Entry> entries, long next) {
+            this.entries = entries;
+            this.next = next;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.yanshenwei.cos;
+
+/**********************************
+ * @Author YSW
+ * @Description 异步复制统计快照
+ * @Date 2026/10/18 - 16:50
+ **********************************/
+
+public class ReplicationStats {
+
+    private final long pending;
+
+    private final long lagMillis;
+
+    private final long replicated;
+
+    private final long failed;
+
+    public ReplicationStats(long pending, long lagMillis, long replicated, long failed) {
+        this.pending = pending;
+        this.lagMillis = lagMillis;
+        this.replicated = replicated;
+        this.failed = failed;
+    }
+
+    /**
+     * 尚未复制的日志条数
+     */
+    public long getPending() {
+        return pending;
+    }
+
+    /**
+     * 复制延迟: 最早一条未复制记录距今的时间(毫秒), 没有未复制记录时为 0
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * 启动以来复制成功的条数
+     */
+    public long getReplicated() {
+        return replicated;
+    }
+
+    /**
+     * 启动以来重试耗尽的条数
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationStats{" +
+                "pending=" + pending +
+                ", lagMillis=" + lagMillis +
+                ", replicated=" + replicated +
+                ", failed=" + failed +
+                '}';
+    }
+}
@@ -0,0 +1,245 @@
+package io.github.yanshenwei.cos;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**********************************
+ * @Author YSW
+ * @Description 异步复制: 写入主云存储成功后追加复制日志, 后台按批读取日志并发复制到从云存储,
+ * 每批全部完成后推进已复制位置; 单条失败按指数退避重试, 耗尽后记入失败文件
+ * @Date 2026/10/18 - 17:00
+ **********************************/
+
+class Replicator {
+
+    private static final Logger log = LoggerFactory.getLogger(Replicator.class);
+
+    /**
+     * 从主云存储读取对象写入从云存储(上传, 追加, 复制的目标对象)
+     */
+    static final String PUT = "PUT";
+
+    /**
+     * 从云存储删除对象
+     */
+    static final String DELETE = "DELETE";
+
+    private static final long MAX_RETRY_DELAY = 60000L;
+
+    private static final long IDLE_WAIT = 1000L;
+
+    private final ReplicationJournal journal;
+
+    private final String primaryName;
+
+    private final ObjectCloudStorage primary;
+
+    private final ObjectCloudStorage secondary;
+
+    private final ExecutorService workers;
+
+    private final int batchSize;
+
+    private final int maxRetries;
+
+    private final long retryDelay;
+
+    private final AtomicLong pending = new AtomicLong();
+
+    private final AtomicLong replicated = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final Object signal = new Object();
+
+    /**
+     * 最早一条未复制记录的时间戳, 没有未复制记录时为 0
+     */
+    private volatile long oldestPending;
+
+    private volatile boolean running;
+
+    private Thread reader;
+
+    private long position;
+
+    Replicator(Path journalDir, String primaryName, ObjectCloudStorage primary, ObjectCloudStorage secondary,
+               ExecutorService workers, int batchSize, int maxRetries, long retryDelay) throws IOException {
+        this.journal = new ReplicationJournal(journalDir);
+        this.primaryName = primaryName;
+        this.primary = primary;
+        this.secondary = secondary;
+        this.workers = workers;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryDelay = Math.max(1, retryDelay);
+    }
+
+    String getPrimaryName() {
+        return primaryName;
+    }
+
+    /**
+     * 从上次记录的位置继续复制
+     */
+    void start() throws IOException {
+        position = journal.loadPosition();
+        pending.set(journal.count(position));
+        if (pending.get() > 0) {
+            oldestPending = System.currentTimeMillis();
+            log.info("复制日志中有 " + pending.get() + " 条记录待复制");
+        }
+        running = true;
+        reader = new Thread(this::run, "cos-replication-reader");
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    void stop() {
+        running = false;
+        if (reader != null) {
+            reader.interrupt();
+        }
+        workers.shutdownNow();
+        try {
+            journal.close();
+        } catch (IOException ignored) {
+            // 日志已同步落盘, 关闭失败不影响重启后续传
+        }
+    }
+
+    /**
+     * 追加复制记录(同步落盘)
+     *
+     * @return 是否记录成功
+     */
+    boolean append(String op, String path) {
+        final long now = System.currentTimeMillis();
+        try {
+            journal.append(op, path, now);
+        } catch (IOException e) {
+            log.error("对象 [" + path + "] 复制日志写入失败 " + e.getMessage());
+            return false;
+        }
+        if (pending.getAndIncrement() == 0) {
+            oldestPending = now;
+        }
+        synchronized (signal) {
+            signal.notifyAll();
+        }
+        return true;
+    }
+
+    ReplicationStats stats() {
+        final long oldest = oldestPending;
+        return new ReplicationStats(pending.get(), oldest == 0 ? 0 : System.currentTimeMillis() - oldest,
+                replicated.get(), failed.get());
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                final ReplicationJournal.Batch batch = journal.read(position, batchSize);
+                if (batch.next == position) {
+                    if (journal.compact(position)) {
+                        position = 0;
+                    }
+                    if (pending.get() == 0) {
+                        oldestPending = 0;
+                    }
+                    synchronized (signal) {
+                        signal.wait(IDLE_WAIT);
+                    }
+                    continue;
+                }
+                if (!batch.entries.isEmpty()) {
+                    oldestPending = batch.entries.get(0).timestamp;
+                }
+                // 同一批内同一对象只保留最后一次操作
+                final Map<String, ReplicationJournal.Entry> latest = new LinkedHashMap<>();
+                for (ReplicationJournal.Entry entry : batch.entries) {
+                    latest.remove(entry.path);
+                    latest.put(entry.path, entry);
+                }
+                final List<Future<?>> futures = new ArrayList<>(latest.size());
+                for (ReplicationJournal.Entry entry : latest.values()) {
+                    futures.add(workers.submit(() -> {
+                        replicate(entry);
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                position = batch.next;
+                journal.savePosition(position);
+                pending.addAndGet(-batch.entries.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | ExecutionException e) {
+                log.error("复制日志处理异常 " + e.getMessage());
+                try {
+                    Thread.sleep(retryDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void replicate(ReplicationJournal.Entry entry) throws InterruptedException, IOException {
+        long delay = retryDelay;
+        for (int attempt = 0; ; attempt++) {
+            String reason;
+            try {
+                if (apply(entry)) {
+                    replicated.incrementAndGet();
+                    log.debug("对象 [" + entry.path + "] " + entry.op + " 复制成功");
+                    return;
+                }
+                reason = "复制失败";
+            } catch (RuntimeException | IOException e) {
+                reason = e.getMessage();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            if (attempt >= maxRetries) {
+                failed.incrementAndGet();
+                journal.fail(entry, reason);
+                log.error("对象 [" + entry.path + "] " + entry.op + " 复制重试耗尽 " + reason);
+                return;
+            }
+            Thread.sleep(delay);
+            delay = Math.min(delay * 2, MAX_RETRY_DELAY);
+        }
+    }
+
+    private boolean apply(ReplicationJournal.Entry entry) throws IOException {
+        if (DELETE.equals(entry.op)) {
+            return secondary.deleteObject(entry.path);
+        }
+        final CosObject cosObject = primary.getObject(entry.path);
+        if (cosObject == null || cosObject.getInputStream() == null) {
+            // 对象已在主云存储删除时跳过, 后续的删除记录会同步到从云存储
+            return !primary.isObjectExist(entry.path);
+        }
+        try (InputStream inputStream = cosObject.getInputStream()) {
+            return secondary.putObject(entry.path, inputStream, cosObject.getContentType(), PutCondition.overwrite());
+        }
+    }
+}
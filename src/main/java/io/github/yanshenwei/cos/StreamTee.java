@@ -0,0 +1,349 @@
+package io.github.yanshenwei.cos;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**********************************
+ * @Author YSW
+ * @Description 流分流: 源流只读取一次, 由多个分支流各自按自己的进度读取
+ * 分支之间的进度差在内存上限内时以堆内数据块缓存, 各分支都读过的数据块即释放;
+ * 进度差超过上限后, 后续数据写入临时文件, 分支从临时文件按位置读取
+ * @Date 2026/10/18 - 15:30
+ **********************************/
+
+class StreamTee implements AutoCloseable {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    /**
+     * 已关闭分支的读取位置, 不再参与数据块释放判断
+     */
+    private static final long CLOSED = Long.MAX_VALUE;
+
+    private final InputStream source;
+
+    private final long memoryLimit;
+
+    private final Path spillDir;
+
+    /**
+     * 全部分支关闭后是否关闭源流
+     */
+    private final boolean closeSource;
+
+    private final Object sourceLock = new Object();
+
+    private final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+
+    private final long[] positions;
+
+    private long produced;
+
+    private boolean eof;
+
+    private IOException failure;
+
+    private Path spillFile;
+
+    private FileChannel spillChannel;
+
+    /**
+     * 临时文件起始数据在源流中的位置, 未写入临时文件时为 -1
+     */
+    private long spillStart = -1;
+
+    /**
+     * @param source      源流
+     * @param branches    分支数
+     * @param memoryLimit 分支进度差的内存缓存上限(字节)
+     * @param spillDir    临时文件目录, 为空时使用系统临时目录
+     */
+    StreamTee(InputStream source, int branches, long memoryLimit, String spillDir) {
+        this(source, branches, memoryLimit, spillDir, false);
+    }
+
+    /**
+     * @param source      源流
+     * @param branches    分支数
+     * @param memoryLimit 分支进度差的内存缓存上限(字节)
+     * @param spillDir    临时文件目录, 为空时使用系统临时目录
+     * @param closeSource 全部分支关闭后是否关闭源流
+     */
+    StreamTee(InputStream source, int branches, long memoryLimit, String spillDir, boolean closeSource) {
+        this.source = source;
+        this.closeSource = closeSource;
+        this.memoryLimit = memoryLimit;
+        this.spillDir = spillDir == null || spillDir.trim().length() == 0 ?
+                Paths.get(System.getProperty("java.io.tmpdir")) : Paths.get(spillDir);
+        this.positions = new long[branches];
+    }
+
+    /**
+     * 获取分支流, 每个分支只能获取一次, 读取结束或放弃读取时需关闭
+     */
+    Branch branch(int index) {
+        return new Branch(index);
+    }
+
+    /**
+     * 关闭全部分支并删除临时文件, 仅在指定 closeSource 时关闭源流
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            Arrays.fill(positions, CLOSED);
+            chunks.clear();
+        }
+        closeSpill();
+    }
+
+    private int read(int index, byte[] b, int off, int len) throws IOException {
+        while (true) {
+            final long position;
+            final long fileOffset;
+            synchronized (this) {
+                if (failure != null) {
+                    throw failure;
+                }
+                position = positions[index];
+                if (position == CLOSED) {
+                    throw new IOException("分支流已关闭");
+                }
+                if (position < produced) {
+                    if (spillStart < 0 || position < spillStart) {
+                        final int n = readChunk(position, b, off, len);
+                        advance(index, n);
+                        return n;
+                    }
+                    fileOffset = position - spillStart;
+                } else if (eof) {
+                    return -1;
+                } else {
+                    fileOffset = -1;
+                }
+            }
+            if (fileOffset >= 0) {
+                // 临时文件只追加写入, 已写入部分可无锁按位置读取
+                final int n = spillChannel.read(ByteBuffer.wrap(b, off,
+                        (int) Math.min(len, produced() - position)), fileOffset);
+                synchronized (this) {
+                    advance(index, Math.max(n, 0));
+                }
+                if (n > 0) {
+                    return n;
+                }
+                continue;
+            }
+            fill(position);
+        }
+    }
+
+    private synchronized long produced() {
+        return produced;
+    }
+
+    /**
+     * 从源流读取下一块数据, 其他分支已读取到更后位置时直接返回
+     */
+    private void fill(long position) throws IOException {
+        synchronized (sourceLock) {
+            synchronized (this) {
+                if (produced > position || eof || failure != null) {
+                    return;
+                }
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("源流读取被中断");
+            }
+            final byte[] buffer = new byte[CHUNK_SIZE];
+            final int n;
+            try {
+                n = source.read(buffer);
+            } catch (IOException e) {
+                synchronized (this) {
+                    failure = e;
+                }
+                throw e;
+            }
+            if (n < 0) {
+                synchronized (this) {
+                    eof = true;
+                }
+                return;
+            }
+            final boolean spill;
+            synchronized (this) {
+                spill = spillStart >= 0 || produced + n - minPosition() > memoryLimit;
+            }
+            if (spill) {
+                writeSpill(buffer, n);
+            } else {
+                synchronized (this) {
+                    chunks.addLast(new Chunk(produced, n == CHUNK_SIZE ? buffer : Arrays.copyOf(buffer, n)));
+                    produced += n;
+                }
+            }
+        }
+    }
+
+    private void writeSpill(byte[] buffer, int n) throws IOException {
+        try {
+            if (spillChannel == null) {
+                Files.createDirectories(spillDir);
+                spillFile = Files.createTempFile(spillDir, "cos-tee-", ".tmp");
+                spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                synchronized (this) {
+                    spillStart = produced;
+                }
+            }
+            final ByteBuffer data = ByteBuffer.wrap(buffer, 0, n);
+            long offset = produced() - spillStart;
+            while (data.hasRemaining()) {
+                offset += spillChannel.write(data, offset);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                failure = e;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            produced += n;
+        }
+    }
+
+    private int readChunk(long position, byte[] b, int off, int len) {
+        for (Chunk chunk : chunks) {
+            if (position < chunk.start + chunk.data.length) {
+                final int from = (int) (position - chunk.start);
+                final int n = Math.min(len, chunk.data.length - from);
+                System.arraycopy(chunk.data, from, b, off, n);
+                return n;
+            }
+        }
+        throw new IllegalStateException("数据块已释放: " + position);
+    }
+
+    private void advance(int index, int n) {
+        if (positions[index] != CLOSED) {
+            positions[index] += n;
+        }
+        release();
+    }
+
+    /**
+     * 释放所有分支都已读过的数据块
+     */
+    private void release() {
+        final long min = minPosition();
+        final Iterator<Chunk> iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            final Chunk chunk = iterator.next();
+            if (chunk.start + chunk.data.length > min) {
+                break;
+            }
+            iterator.remove();
+        }
+    }
+
+    private long minPosition() {
+        long min = CLOSED;
+        for (long position : positions) {
+            min = Math.min(min, position);
+        }
+        return min;
+    }
+
+    private void closeBranch(int index) {
+        final boolean allClosed;
+        synchronized (this) {
+            positions[index] = CLOSED;
+            release();
+            allClosed = minPosition() == CLOSED;
+        }
+        if (allClosed) {
+            closeSpill();
+        }
+    }
+
+    private void closeSpill() {
+        synchronized (sourceLock) {
+            if (closeSource) {
+                try {
+                    source.close();
+                } catch (IOException ignored) {
+                    // 源流已读取结束或放弃读取, 关闭失败不影响结果
+                }
+            }
+            try {
+                if (spillChannel != null) {
+                    spillChannel.close();
+                }
+                if (spillFile != null) {
+                    Files.deleteIfExists(spillFile);
+                }
+            } catch (IOException ignored) {
+                // 临时文件删除失败不影响上传结果
+            }
+        }
+    }
+
+    private static class Chunk {
+
+        private final long start;
+
+        private final byte[] data;
+
+        Chunk(long start, byte[] data) {
+            this.start = start;
+            this.data = data;
+        }
+    }
+
+    /**
+     * 分支流
+     */
+    class Branch extends InputStream {
+
+        private final int index;
+
+        private boolean closed;
+
+        private Branch(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] b = new byte[1];
+            final int n = read(b, 0, 1);
+            return n < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            return StreamTee.this.read(index, b, off, len);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                closeBranch(index);
+            }
+        }
+    }
+}
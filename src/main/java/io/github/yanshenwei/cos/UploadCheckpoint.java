@@ -0,0 +1,188 @@
+package io.github.yanshenwei.cos;
+
+import org.springframework.util.DigestUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**********************************
+ * @Author YSW
+ * @Description 分片上传断点记录, 每行一条 key=value, 已完成分片以 part.N=ETag 追加写入
+ * @Date 2026/10/18 - 11:10
+ **********************************/
+
+class UploadCheckpoint {
+
+    private static final String SUFFIX = ".checkpoint";
+
+    private static final String PART_PREFIX = "part.";
+
+    private final Path file;
+
+    private final String uploadId;
+
+    private final String objectPath;
+
+    private final String sourcePath;
+
+    private final long sourceLength;
+
+    private final long sourceLastModified;
+
+    private final int partSize;
+
+    private final Map<Integer, String> parts;
+
+    private UploadCheckpoint(Path file, Map<String, String> values, Map<Integer, String> parts) {
+        this.file = file;
+        this.uploadId = values.get("uploadId");
+        this.objectPath = values.get("objectPath");
+        this.sourcePath = values.get("sourcePath");
+        this.sourceLength = Long.parseLong(values.getOrDefault("sourceLength", "-1"));
+        this.sourceLastModified = Long.parseLong(values.getOrDefault("sourceLastModified", "-1"));
+        this.partSize = Integer.parseInt(values.getOrDefault("partSize", "-1"));
+        this.parts = parts;
+    }
+
+    /**
+     * 断点记录文件位置, 同一后端同一对象同一源文件对应同一记录
+     */
+    static Path locate(Path dir, String name, String objectPath, File source) {
+        final String key = DigestUtils.md5DigestAsHex(
+                (objectPath + "\n" + source.getAbsolutePath()).getBytes(StandardCharsets.UTF_8));
+        return dir.resolve(name + "-" + key + SUFFIX);
+    }
+
+    /**
+     * 读取断点记录, 不存在或无法解析时返回 null
+     */
+    static UploadCheckpoint load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            final String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+            final Map<String, String> values = new HashMap<>(8);
+            final Map<Integer, String> parts = new ConcurrentHashMap<>(16);
+            // 最后一个换行之后的内容可能是写入中断的半行, 忽略
+            final int end = content.lastIndexOf('\n');
+            for (String line : content.substring(0, Math.max(end, 0)).split("\n")) {
+                final int i = line.indexOf('=');
+                if (i < 1) {
+                    continue;
+                }
+                final String key = line.substring(0, i);
+                final String value = line.substring(i + 1);
+                if (key.startsWith(PART_PREFIX)) {
+                    parts.put(Integer.parseInt(key.substring(PART_PREFIX.length())), value);
+                } else {
+                    values.put(key, value);
+                }
+            }
+            if (values.get("uploadId") == null) {
+                return null;
+            }
+            return new UploadCheckpoint(file, values, parts);
+        } catch (IOException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 新建断点记录
+     */
+    static UploadCheckpoint create(Path file, String uploadId, String objectPath, File source, int partSize)
+            throws IOException {
+        final Map<String, String> values = new HashMap<>(8);
+        values.put("uploadId", uploadId);
+        values.put("objectPath", objectPath);
+        values.put("sourcePath", source.getAbsolutePath());
+        values.put("sourceLength", String.valueOf(source.length()));
+        values.put("sourceLastModified", String.valueOf(source.lastModified()));
+        values.put("partSize", String.valueOf(partSize));
+        final StringBuilder builder = new StringBuilder();
+        values.forEach((key, value) -> builder.append(key).append('=').append(value).append('\n'));
+        Files.createDirectories(file.getParent());
+        final Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, builder.toString().getBytes(StandardCharsets.UTF_8));
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return new UploadCheckpoint(file, values, new ConcurrentHashMap<>(16));
+    }
+
+    /**
+     * 列出目录下指定后端的全部断点记录文件
+     */
+    static List<Path> list(Path dir, String name) {
+        if (!Files.isDirectory(dir)) {
+            return Collections.emptyList();
+        }
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, name + "-*" + SUFFIX)) {
+            stream.forEach(files::add);
+        } catch (IOException ignored) {
+            // 目录不可读时视为没有断点记录
+        }
+        return files;
+    }
+
+    /**
+     * 记录与当前源文件及分片参数一致时才可续传
+     */
+    boolean matches(String objectPath, File source, int partSize) {
+        return objectPath.equals(this.objectPath)
+                && source.getAbsolutePath().equals(this.sourcePath)
+                && source.length() == this.sourceLength
+                && source.lastModified() == this.sourceLastModified
+                && partSize == this.partSize;
+    }
+
+    /**
+     * 追加已完成分片 (同步落盘)
+     */
+    synchronized void append(int partNumber, String etag) throws IOException {
+        Files.write(file, (PART_PREFIX + partNumber + "=" + etag + "\n").getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        parts.put(partNumber, etag);
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // 删除失败由过期清理兜底
+        }
+    }
+
+    long lastModified() {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    String getUploadId() {
+        return uploadId;
+    }
+
+    String getObjectPath() {
+        return objectPath;
+    }
+
+    Map<Integer, String> getParts() {
+        return parts;
+    }
+}
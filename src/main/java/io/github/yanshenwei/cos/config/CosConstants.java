@@ -41,6 +41,96 @@ public class CosConstants {
 
         private String objectDirPrefix;
 
+        /**
+         * 最大连接数
+         */
+        private int maxConnections = 1024;
+
+        /**
+         * Socket 读写超时时间(毫秒)
+         */
+        private int socketTimeout = 50000;
+
+        /**
+         * 建立连接超时时间(毫秒)
+         */
+        private int connectionTimeout = 50000;
+
+        /**
+         * 从连接池获取连接超时时间(毫秒), -1 不限制
+         */
+        private int connectionRequestTimeout = -1;
+
+        /**
+         * 空闲连接回收时间(毫秒)
+         */
+        private long idleConnectionTime = 60000;
+
+        /**
+         * 连接存活时间(毫秒), -1 不限制
+         */
+        private long connectionTtl = -1;
+
+        /**
+         * 分片上传分片大小(字节), 不小于 5MB(小于时按 5MB 处理), 分段下载同样按此大小切分
+         */
+        private int partSize = 8 * 1024 * 1024;
+
+        /**
+         * 单个分片上传或分段下载同时在途的分片数
+         */
+        private int partConcurrency = 4;
+
+        /**
+         * 文件超过该大小(字节)时使用并发分片上传
+         */
+        private long multipartThreshold = 64 * 1024 * 1024;
+
+        /**
+         * 断点续传记录目录, 为空时不启用断点续传
+         */
+        private String checkpointDir;
+
+        /**
+         * 断点记录无进展超过该时间(毫秒)视为废弃, 清理记录并中止分片上传
+         */
+        private long checkpointTtl = 12 * 60 * 60 * 1000L;
+
+        /**
+         * 异步接口线程数
+         */
+        private int asyncThreads = 16;
+
+        /**
+         * 异步接口等待队列容量, 队列已满时异步调用直接返回失败结果
+         */
+        private int asyncQueueCapacity = 1024;
+
+        /**
+         * 是否使用虚拟线程执行分片及异步操作(需 JDK 21 及以上, 低版本 JVM 自动回退为平台线程池)
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 虚拟线程模式下分片及异步操作各自同时执行的上限
+         */
+        private int virtualThreadPermits = 256;
+
+        /**
+         * 列举对象每页数量(1 ~ 1000)
+         */
+        private int listPageSize = 1000;
+
+        /**
+         * 列举对象时是否在后台预取下一页(多占用一页内存)
+         */
+        private boolean listPrefetch = false;
+
+        /**
+         * 前缀复制 / 移动时同时执行的服务端复制数, 复制在异步线程池中执行, 实际并发不超过 async-threads(启用虚拟线程时为 virtual-thread-permits)
+         */
+        private int copyConcurrency = 32;
+
         public boolean isEnable() {
             return enable;
         }
@@ -97,6 +187,150 @@ public class CosConstants {
             this.objectDirPrefix = objectDirPrefix;
         }
 
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public int getSocketTimeout() {
+            return socketTimeout;
+        }
+
+        public void setSocketTimeout(int socketTimeout) {
+            this.socketTimeout = socketTimeout;
+        }
+
+        public int getConnectionTimeout() {
+            return connectionTimeout;
+        }
+
+        public void setConnectionTimeout(int connectionTimeout) {
+            this.connectionTimeout = connectionTimeout;
+        }
+
+        public int getConnectionRequestTimeout() {
+            return connectionRequestTimeout;
+        }
+
+        public void setConnectionRequestTimeout(int connectionRequestTimeout) {
+            this.connectionRequestTimeout = connectionRequestTimeout;
+        }
+
+        public long getIdleConnectionTime() {
+            return idleConnectionTime;
+        }
+
+        public void setIdleConnectionTime(long idleConnectionTime) {
+            this.idleConnectionTime = idleConnectionTime;
+        }
+
+        public long getConnectionTtl() {
+            return connectionTtl;
+        }
+
+        public void setConnectionTtl(long connectionTtl) {
+            this.connectionTtl = connectionTtl;
+        }
+
+        public int getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(int partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getPartConcurrency() {
+            return partConcurrency;
+        }
+
+        public void setPartConcurrency(int partConcurrency) {
+            this.partConcurrency = partConcurrency;
+        }
+
+        public long getMultipartThreshold() {
+            return multipartThreshold;
+        }
+
+        public void setMultipartThreshold(long multipartThreshold) {
+            this.multipartThreshold = multipartThreshold;
+        }
+
+        public String getCheckpointDir() {
+            return checkpointDir;
+        }
+
+        public void setCheckpointDir(String checkpointDir) {
+            this.checkpointDir = checkpointDir;
+        }
+
+        public long getCheckpointTtl() {
+            return checkpointTtl;
+        }
+
+        public void setCheckpointTtl(long checkpointTtl) {
+            this.checkpointTtl = checkpointTtl;
+        }
+
+        public int getAsyncThreads() {
+            return asyncThreads;
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getAsyncQueueCapacity() {
+            return asyncQueueCapacity;
+        }
+
+        public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+            this.asyncQueueCapacity = asyncQueueCapacity;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getVirtualThreadPermits() {
+            return virtualThreadPermits;
+        }
+
+        public void setVirtualThreadPermits(int virtualThreadPermits) {
+            this.virtualThreadPermits = virtualThreadPermits;
+        }
+
+        public int getListPageSize() {
+            return listPageSize;
+        }
+
+        public void setListPageSize(int listPageSize) {
+            this.listPageSize = listPageSize;
+        }
+
+        public boolean isListPrefetch() {
+            return listPrefetch;
+        }
+
+        public void setListPrefetch(boolean listPrefetch) {
+            this.listPrefetch = listPrefetch;
+        }
+
+        public int getCopyConcurrency() {
+            return copyConcurrency;
+        }
+
+        public void setCopyConcurrency(int copyConcurrency) {
+            this.copyConcurrency = copyConcurrency;
+        }
+
         @Override
         public String toString() {
             return "AliossConfig{" +
@@ -107,6 +341,24 @@ public class CosConstants {
                     ", bucket='" + bucket + '\'' +
                     ", resourceHost='" + resourceHost + '\'' +
                     ", objectDirPrefix='" + objectDirPrefix + '\'' +
+                    ", maxConnections=" + maxConnections +
+                    ", socketTimeout=" + socketTimeout +
+                    ", connectionTimeout=" + connectionTimeout +
+                    ", connectionRequestTimeout=" + connectionRequestTimeout +
+                    ", idleConnectionTime=" + idleConnectionTime +
+                    ", connectionTtl=" + connectionTtl +
+                    ", partSize=" + partSize +
+                    ", partConcurrency=" + partConcurrency +
+                    ", multipartThreshold=" + multipartThreshold +
+                    ", checkpointDir='" + checkpointDir + '\'' +
+                    ", checkpointTtl=" + checkpointTtl +
+                    ", asyncThreads=" + asyncThreads +
+                    ", asyncQueueCapacity=" + asyncQueueCapacity +
+                    ", virtualThreads=" + virtualThreads +
+                    ", virtualThreadPermits=" + virtualThreadPermits +
+                    ", listPageSize=" + listPageSize +
+                    ", listPrefetch=" + listPrefetch +
+                    ", copyConcurrency=" + copyConcurrency +
                     '}';
         }
     }
@@ -129,6 +381,106 @@ public class CosConstants {
 
         private String objectDirPrefix;
 
+        /**
+         * 连接池最大空闲连接数
+         */
+        private int maxIdleConnections = 64;
+
+        /**
+         * 空闲连接保持时间(毫秒)
+         */
+        private long keepAliveDuration = 300000;
+
+        /**
+         * 最大并发请求数
+         */
+        private int maxRequests = 256;
+
+        /**
+         * 单个主机最大并发请求数
+         */
+        private int maxRequestsPerHost = 256;
+
+        /**
+         * 建立连接超时时间(毫秒)
+         */
+        private long connectTimeout = 300000;
+
+        /**
+         * 读超时时间(毫秒)
+         */
+        private long readTimeout = 300000;
+
+        /**
+         * 写超时时间(毫秒)
+         */
+        private long writeTimeout = 300000;
+
+        /**
+         * 是否启用 HTTP/2 (https 协商 h2, http 使用 h2c)
+         */
+        private boolean http2;
+
+        /**
+         * 分片上传分片大小(字节), 不小于 5MB(小于时按 5MB 处理), 分段下载同样按此大小切分
+         */
+        private int partSize = 8 * 1024 * 1024;
+
+        /**
+         * 单个分片上传或分段下载同时在途的分片数
+         */
+        private int partConcurrency = 4;
+
+        /**
+         * 文件超过该大小(字节)时使用并发分片上传
+         */
+        private long multipartThreshold = 64 * 1024 * 1024;
+
+        /**
+         * 断点续传记录目录, 为空时不启用断点续传
+         */
+        private String checkpointDir;
+
+        /**
+         * 断点记录无进展超过该时间(毫秒)视为废弃, 清理记录并中止分片上传
+         */
+        private long checkpointTtl = 12 * 60 * 60 * 1000L;
+
+        /**
+         * 异步接口线程数
+         */
+        private int asyncThreads = 16;
+
+        /**
+         * 异步接口等待队列容量, 队列已满时异步调用直接返回失败结果
+         */
+        private int asyncQueueCapacity = 1024;
+
+        /**
+         * 是否使用虚拟线程执行分片及异步操作(需 JDK 21 及以上, 低版本 JVM 自动回退为平台线程池)
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 虚拟线程模式下分片及异步操作各自同时执行的上限
+         */
+        private int virtualThreadPermits = 256;
+
+        /**
+         * 列举对象每页数量(1 ~ 1000)
+         */
+        private int listPageSize = 1000;
+
+        /**
+         * 列举对象时是否在后台预取下一页(多占用一页内存)
+         */
+        private boolean listPrefetch = false;
+
+        /**
+         * 前缀复制 / 移动时同时执行的服务端复制数, 复制在异步线程池中执行, 实际并发不超过 async-threads(启用虚拟线程时为 virtual-thread-permits)
+         */
+        private int copyConcurrency = 32;
+
         public boolean isEnable() {
             return enable;
         }
@@ -185,6 +537,166 @@ public class CosConstants {
             this.objectDirPrefix = objectDirPrefix;
         }
 
+        public int getMaxIdleConnections() {
+            return maxIdleConnections;
+        }
+
+        public void setMaxIdleConnections(int maxIdleConnections) {
+            this.maxIdleConnections = maxIdleConnections;
+        }
+
+        public long getKeepAliveDuration() {
+            return keepAliveDuration;
+        }
+
+        public void setKeepAliveDuration(long keepAliveDuration) {
+            this.keepAliveDuration = keepAliveDuration;
+        }
+
+        public int getMaxRequests() {
+            return maxRequests;
+        }
+
+        public void setMaxRequests(int maxRequests) {
+            this.maxRequests = maxRequests;
+        }
+
+        public int getMaxRequestsPerHost() {
+            return maxRequestsPerHost;
+        }
+
+        public void setMaxRequestsPerHost(int maxRequestsPerHost) {
+            this.maxRequestsPerHost = maxRequestsPerHost;
+        }
+
+        public long getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(long connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public long getReadTimeout() {
+            return readTimeout;
+        }
+
+        public void setReadTimeout(long readTimeout) {
+            this.readTimeout = readTimeout;
+        }
+
+        public long getWriteTimeout() {
+            return writeTimeout;
+        }
+
+        public void setWriteTimeout(long writeTimeout) {
+            this.writeTimeout = writeTimeout;
+        }
+
+        public boolean isHttp2() {
+            return http2;
+        }
+
+        public void setHttp2(boolean http2) {
+            this.http2 = http2;
+        }
+
+        public int getPartSize() {
+            return partSize;
+        }
+
+        public void setPartSize(int partSize) {
+            this.partSize = partSize;
+        }
+
+        public int getPartConcurrency() {
+            return partConcurrency;
+        }
+
+        public void setPartConcurrency(int partConcurrency) {
+            this.partConcurrency = partConcurrency;
+        }
+
+        public long getMultipartThreshold() {
+            return multipartThreshold;
+        }
+
+        public void setMultipartThreshold(long multipartThreshold) {
+            this.multipartThreshold = multipartThreshold;
+        }
+
+        public String getCheckpointDir() {
+            return checkpointDir;
+        }
+
+        public void setCheckpointDir(String checkpointDir) {
+            this.checkpointDir = checkpointDir;
+        }
+
+        public long getCheckpointTtl() {
+            return checkpointTtl;
+        }
+
+        public void setCheckpointTtl(long checkpointTtl) {
+            this.checkpointTtl = checkpointTtl;
+        }
+
+        public int getAsyncThreads() {
+            return asyncThreads;
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getAsyncQueueCapacity() {
+            return asyncQueueCapacity;
+        }
+
+        public void setAsyncQueueCapacity(int asyncQueueCapacity) {
+            this.asyncQueueCapacity = asyncQueueCapacity;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getVirtualThreadPermits() {
+            return virtualThreadPermits;
+        }
+
+        public void setVirtualThreadPermits(int virtualThreadPermits) {
+            this.virtualThreadPermits = virtualThreadPermits;
+        }
+
+        public int getListPageSize() {
+            return listPageSize;
+        }
+
+        public void setListPageSize(int listPageSize) {
+            this.listPageSize = listPageSize;
+        }
+
+        public boolean isListPrefetch() {
+            return listPrefetch;
+        }
+
+        public void setListPrefetch(boolean listPrefetch) {
+            this.listPrefetch = listPrefetch;
+        }
+
+        public int getCopyConcurrency() {
+            return copyConcurrency;
+        }
+
+        public void setCopyConcurrency(int copyConcurrency) {
+            this.copyConcurrency = copyConcurrency;
+        }
+
         @Override
         public String toString() {
             return "MinioConfig{" +
@@ -195,6 +707,570 @@ public class CosConstants {
                     ", bucket='" + bucket + '\'' +
                     ", resourceHost='" + resourceHost + '\'' +
                     ", objectDirPrefix='" + objectDirPrefix + '\'' +
+                    ", maxIdleConnections=" + maxIdleConnections +
+                    ", keepAliveDuration=" + keepAliveDuration +
+                    ", maxRequests=" + maxRequests +
+                    ", maxRequestsPerHost=" + maxRequestsPerHost +
+                    ", connectTimeout=" + connectTimeout +
+                    ", readTimeout=" + readTimeout +
+                    ", writeTimeout=" + writeTimeout +
+                    ", http2=" + http2 +
+                    ", partSize=" + partSize +
+                    ", partConcurrency=" + partConcurrency +
+                    ", multipartThreshold=" + multipartThreshold +
+                    ", checkpointDir='" + checkpointDir + '\'' +
+                    ", checkpointTtl=" + checkpointTtl +
+                    ", asyncThreads=" + asyncThreads +
+                    ", asyncQueueCapacity=" + asyncQueueCapacity +
+                    ", virtualThreads=" + virtualThreads +
+                    ", virtualThreadPermits=" + virtualThreadPermits +
+                    ", listPageSize=" + listPageSize +
+                    ", listPrefetch=" + listPrefetch +
+                    ", copyConcurrency=" + copyConcurrency +
+                    '}';
+        }
+    }
+
+    @Configuration
+    @ConfigurationProperties(prefix = "cos.multi")
+    public static class MultiConfig {
+
+        /**
+         * 双云写入线程数, 两个云存储的写操作在该线程池中并发执行
+         */
+        private int writeThreads = 32;
+
+        /**
+         * 双云写入整体超时时间(毫秒), 超时未完成的一方记为超时失败
+         */
+        private long writeTimeout = 300000L;
+
+        /**
+         * 双云流上传时两端读取进度差的内存缓存上限(字节), 超出后改为写入临时文件
+         */
+        private long teeMemoryLimit = 16L * 1024 * 1024;
+
+        /**
+         * 双云流上传临时文件目录, 为空时使用系统临时目录
+         */
+        private String teeSpillDir;
+
+        /**
+         * 是否启用对冲读取: 先向首选方发起读取, 超过对冲延迟未返回时再向另一方发起读取, 先返回首字节的一方胜出
+         */
+        private boolean hedgeEnabled = false;
+
+        /**
+         * 对冲延迟(毫秒), 建议取首选方读取首字节耗时的 p95
+         */
+        private long hedgeDelay = 100L;
+
+        /**
+         * 对冲读取线程数
+         */
+        private int readThreads = 32;
+
+        /**
+         * 是否按实时统计(EWMA 耗时, 错误率, 在途请求数)选择读取的云存储, 关闭时固定先读 oss
+         */
+        private boolean routingEnabled = false;
+
+        /**
+         * 耗时与错误率 EWMA 平滑系数, 越大越偏重最近的请求
+         */
+        private double routingEwmaAlpha = 0.2;
+
+        /**
+         * 探测比例, 按该概率将读取发往非最优的云存储以刷新其统计
+         */
+        private double routingProbeRatio = 0.05;
+
+        /**
+         * 错误率(EWMA)达到该值的云存储视为不健康, 仅接收探测请求
+         */
+        private double routingErrorThreshold = 0.5;
+
+        /**
+         * 是否启用异步复制: 写入只同步写主云存储, 成功后记录复制日志, 由后台线程复制到另一方
+         */
+        private boolean replicationEnabled = false;
+
+        /**
+         * 异步复制主云存储(oss / minio)
+         */
+        private String replicationPrimary = "oss";
+
+        /**
+         * 复制日志目录
+         */
+        private String replicationJournalDir = "cos-replication";
+
+        /**
+         * 复制线程数
+         */
+        private int replicationWorkers = 4;
+
+        /**
+         * 每批读取的复制日志条数, 同一批内同一对象只复制最后一次操作
+         */
+        private int replicationBatchSize = 100;
+
+        /**
+         * 单条复制最大重试次数, 耗尽后记入 replication.failed
+         */
+        private int replicationMaxRetries = 10;
+
+        /**
+         * 复制重试初始间隔(毫秒), 每次重试翻倍, 最长 60 秒
+         */
+        private long replicationRetryDelay = 1000L;
+
+        /**
+         * 双云前缀复制 / 移动时同时执行的复制数(复制线程池线程数), 启用虚拟线程时不超过 virtual-thread-permits
+         */
+        private int copyConcurrency = 32;
+
+        /**
+         * 是否使用虚拟线程执行双云读写, 异步复制及前缀复制(需 JDK 21 及以上, 低版本 JVM 自动回退为平台线程池)
+         */
+        private boolean virtualThreads = false;
+
+        /**
+         * 虚拟线程模式下各线程池同时执行的上限
+         */
+        private int virtualThreadPermits = 256;
+
+        public int getWriteThreads() {
+            return writeThreads;
+        }
+
+        public void setWriteThreads(int writeThreads) {
+            this.writeThreads = writeThreads;
+        }
+
+        public long getWriteTimeout() {
+            return writeTimeout;
+        }
+
+        public void setWriteTimeout(long writeTimeout) {
+            this.writeTimeout = writeTimeout;
+        }
+
+        public long getTeeMemoryLimit() {
+            return teeMemoryLimit;
+        }
+
+        public void setTeeMemoryLimit(long teeMemoryLimit) {
+            this.teeMemoryLimit = teeMemoryLimit;
+        }
+
+        public String getTeeSpillDir() {
+            return teeSpillDir;
+        }
+
+        public void setTeeSpillDir(String teeSpillDir) {
+            this.teeSpillDir = teeSpillDir;
+        }
+
+        public boolean isHedgeEnabled() {
+            return hedgeEnabled;
+        }
+
+        public void setHedgeEnabled(boolean hedgeEnabled) {
+            this.hedgeEnabled = hedgeEnabled;
+        }
+
+        public long getHedgeDelay() {
+            return hedgeDelay;
+        }
+
+        public void setHedgeDelay(long hedgeDelay) {
+            this.hedgeDelay = hedgeDelay;
+        }
+
+        public int getReadThreads() {
+            return readThreads;
+        }
+
+        public void setReadThreads(int readThreads) {
+            this.readThreads = readThreads;
+        }
+
+        public boolean isRoutingEnabled() {
+            return routingEnabled;
+        }
+
+        public void setRoutingEnabled(boolean routingEnabled) {
+            this.routingEnabled = routingEnabled;
+        }
+
+        public double getRoutingEwmaAlpha() {
+            return routingEwmaAlpha;
+        }
+
+        public void setRoutingEwmaAlpha(double routingEwmaAlpha) {
+            this.routingEwmaAlpha = routingEwmaAlpha;
+        }
+
+        public double getRoutingProbeRatio() {
+            return routingProbeRatio;
+        }
+
+        public void setRoutingProbeRatio(double routingProbeRatio) {
+            this.routingProbeRatio = routingProbeRatio;
+        }
+
+        public double getRoutingErrorThreshold() {
+            return routingErrorThreshold;
+        }
+
+        public void setRoutingErrorThreshold(double routingErrorThreshold) {
+            this.routingErrorThreshold = routingErrorThreshold;
+        }
+
+        public boolean isReplicationEnabled() {
+            return replicationEnabled;
+        }
+
+        public void setReplicationEnabled(boolean replicationEnabled) {
+            this.replicationEnabled = replicationEnabled;
+        }
+
+        public String getReplicationPrimary() {
+            return replicationPrimary;
+        }
+
+        public void setReplicationPrimary(String replicationPrimary) {
+            this.replicationPrimary = replicationPrimary;
+        }
+
+        public String getReplicationJournalDir() {
+            return replicationJournalDir;
+        }
+
+        public void setReplicationJournalDir(String replicationJournalDir) {
+            this.replicationJournalDir = replicationJournalDir;
+        }
+
+        public int getReplicationWorkers() {
+            return replicationWorkers;
+        }
+
+        public void setReplicationWorkers(int replicationWorkers) {
+            this.replicationWorkers = replicationWorkers;
+        }
+
+        public int getReplicationBatchSize() {
+            return replicationBatchSize;
+        }
+
+        public void setReplicationBatchSize(int replicationBatchSize) {
+            this.replicationBatchSize = replicationBatchSize;
+        }
+
+        public int getReplicationMaxRetries() {
+            return replicationMaxRetries;
+        }
+
+        public void setReplicationMaxRetries(int replicationMaxRetries) {
+            this.replicationMaxRetries = replicationMaxRetries;
+        }
+
+        public long getReplicationRetryDelay() {
+            return replicationRetryDelay;
+        }
+
+        public void setReplicationRetryDelay(long replicationRetryDelay) {
+            this.replicationRetryDelay = replicationRetryDelay;
+        }
+
+        public int getCopyConcurrency() {
+            return copyConcurrency;
+        }
+
+        public void setCopyConcurrency(int copyConcurrency) {
+            this.copyConcurrency = copyConcurrency;
+        }
+
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        public void setVirtualThreads(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+        }
+
+        public int getVirtualThreadPermits() {
+            return virtualThreadPermits;
+        }
+
+        public void setVirtualThreadPermits(int virtualThreadPermits) {
+            this.virtualThreadPermits = virtualThreadPermits;
+        }
+
+        @Override
+        public String toString() {
+            return "MultiConfig{" +
+                    "writeThreads=" + writeThreads +
+                    ", writeTimeout=" + writeTimeout +
+                    ", teeMemoryLimit=" + teeMemoryLimit +
+                    ", teeSpillDir='" + teeSpillDir + '\'' +
+                    ", hedgeEnabled=" + hedgeEnabled +
+                    ", hedgeDelay=" + hedgeDelay +
+                    ", readThreads=" + readThreads +
+                    ", routingEnabled=" + routingEnabled +
+                    ", routingEwmaAlpha=" + routingEwmaAlpha +
+                    ", routingProbeRatio=" + routingProbeRatio +
+                    ", routingErrorThreshold=" + routingErrorThreshold +
+                    ", replicationEnabled=" + replicationEnabled +
+                    ", replicationPrimary='" + replicationPrimary + '\'' +
+                    ", replicationJournalDir='" + replicationJournalDir + '\'' +
+                    ", replicationWorkers=" + replicationWorkers +
+                    ", replicationBatchSize=" + replicationBatchSize +
+                    ", replicationMaxRetries=" + replicationMaxRetries +
+                    ", replicationRetryDelay=" + replicationRetryDelay +
+                    ", copyConcurrency=" + copyConcurrency +
+                    ", virtualThreads=" + virtualThreads +
+                    ", virtualThreadPermits=" + virtualThreadPermits +
+                    '}';
+        }
+    }
+
+    @Configuration
+    @ConfigurationProperties(prefix = "cos.cache")
+    public static class CacheConfig {
+
+        /**
+         * 是否启用元数据缓存(isObjectExist / statObject)
+         */
+        private boolean metadataEnabled = false;
+
+        /**
+         * 元数据缓存条数上限, 超出后淘汰最久未访问的条目
+         */
+        private int metadataMaxEntries = 10000;
+
+        /**
+         * 对象存在时元数据缓存有效期(毫秒)
+         */
+        private long metadataTtl = 60000L;
+
+        /**
+         * 对象不存在时缓存有效期(毫秒)
+         */
+        private long metadataNegativeTtl = 5000L;
+
+        /**
+         * 是否启用 getObject 本地磁盘读穿缓存
+         */
+        private boolean diskEnabled = false;
+
+        /**
+         * 磁盘缓存目录, 各云存储分别使用子目录
+         */
+        private String diskDir = "cos-cache";
+
+        /**
+         * 磁盘缓存总字节数上限, 超出后淘汰最久未访问的文件
+         */
+        private long diskMaxBytes = 10L * 1024 * 1024 * 1024;
+
+        /**
+         * 单个对象超过该大小(字节)时不写入磁盘缓存
+         */
+        private long diskMaxObjectSize = 256L * 1024 * 1024;
+
+        /**
+         * 磁盘缓存命中后的重新校验间隔(毫秒): 间隔内再次读取同一对象直接返回缓存文件, 不查询对象元数据;
+         * 超过间隔后查询一次元数据比对 ETag(启用元数据缓存时取自元数据缓存, 其他客户端的修改最多延迟
+         * 本间隔加元数据缓存有效期才可见); 本客户端写入或删除对象时立即失效; 为 0 时每次读取都查询元数据
+         */
+        private long diskRevalidateTtl = 5000L;
+
+        /**
+         * 是否启用小对象堆外内存缓存
+         */
+        private boolean memoryEnabled = false;
+
+        /**
+         * 堆外内存缓存总字节数上限(按 1MB slab 申请)
+         */
+        private long memoryMaxBytes = 256L * 1024 * 1024;
+
+        /**
+         * 对象不超过该大小(字节)时写入堆外内存缓存
+         */
+        private int memoryMaxObjectSize = 256 * 1024;
+
+        /**
+         * 内存缓存命中后的重新校验间隔(毫秒): 间隔内再次读取同一对象直接返回缓存内容, 不查询对象元数据;
+         * 超过间隔后查询一次元数据比对 ETag(启用元数据缓存时取自元数据缓存, 其他客户端的修改最多延迟
+         * 本间隔加元数据缓存有效期才可见); 本客户端写入或删除对象时立即失效; 为 0 时每次读取都查询元数据
+         */
+        private long memoryRevalidateTtl = 5000L;
+
+        /**
+         * 是否合并同一对象同时进行的 getObject / statObject / isObjectExist 请求
+         */
+        private boolean coalesceEnabled = false;
+
+        /**
+         * 合并读取时各调用方读取进度差的内存缓存上限(字节), 超出后改为写入临时文件
+         */
+        private long coalesceMemoryLimit = 16L * 1024 * 1024;
+
+        /**
+         * 合并读取临时文件目录, 为空时使用系统临时目录
+         */
+        private String coalesceSpillDir;
+
+        public boolean isMetadataEnabled() {
+            return metadataEnabled;
+        }
+
+        public void setMetadataEnabled(boolean metadataEnabled) {
+            this.metadataEnabled = metadataEnabled;
+        }
+
+        public int getMetadataMaxEntries() {
+            return metadataMaxEntries;
+        }
+
+        public void setMetadataMaxEntries(int metadataMaxEntries) {
+            this.metadataMaxEntries = metadataMaxEntries;
+        }
+
+        public long getMetadataTtl() {
+            return metadataTtl;
+        }
+
+        public void setMetadataTtl(long metadataTtl) {
+            this.metadataTtl = metadataTtl;
+        }
+
+        public long getMetadataNegativeTtl() {
+            return metadataNegativeTtl;
+        }
+
+        public void setMetadataNegativeTtl(long metadataNegativeTtl) {
+            this.metadataNegativeTtl = metadataNegativeTtl;
+        }
+
+        public boolean isDiskEnabled() {
+            return diskEnabled;
+        }
+
+        public void setDiskEnabled(boolean diskEnabled) {
+            this.diskEnabled = diskEnabled;
+        }
+
+        public String getDiskDir() {
+            return diskDir;
+        }
+
+        public void setDiskDir(String diskDir) {
+            this.diskDir = diskDir;
+        }
+
+        public long getDiskMaxBytes() {
+            return diskMaxBytes;
+        }
+
+        public void setDiskMaxBytes(long diskMaxBytes) {
+            this.diskMaxBytes = diskMaxBytes;
+        }
+
+        public long getDiskMaxObjectSize() {
+            return diskMaxObjectSize;
+        }
+
+        public void setDiskMaxObjectSize(long diskMaxObjectSize) {
+            this.diskMaxObjectSize = diskMaxObjectSize;
+        }
+
+        public long getDiskRevalidateTtl() {
+            return diskRevalidateTtl;
+        }
+
+        public void setDiskRevalidateTtl(long diskRevalidateTtl) {
+            this.diskRevalidateTtl = diskRevalidateTtl;
+        }
+
+        public boolean isMemoryEnabled() {
+            return memoryEnabled;
+        }
+
+        public void setMemoryEnabled(boolean memoryEnabled) {
+            this.memoryEnabled = memoryEnabled;
+        }
+
+        public long getMemoryMaxBytes() {
+            return memoryMaxBytes;
+        }
+
+        public void setMemoryMaxBytes(long memoryMaxBytes) {
+            this.memoryMaxBytes = memoryMaxBytes;
+        }
+
+        public int getMemoryMaxObjectSize() {
+            return memoryMaxObjectSize;
+        }
+
+        public void setMemoryMaxObjectSize(int memoryMaxObjectSize) {
+            this.memoryMaxObjectSize = memoryMaxObjectSize;
+        }
+
+        public long getMemoryRevalidateTtl() {
+            return memoryRevalidateTtl;
+        }
+
+        public void setMemoryRevalidateTtl(long memoryRevalidateTtl) {
+            this.memoryRevalidateTtl = memoryRevalidateTtl;
+        }
+
+        public boolean isCoalesceEnabled() {
+            return coalesceEnabled;
+        }
+
+        public void setCoalesceEnabled(boolean coalesceEnabled) {
+            this.coalesceEnabled = coalesceEnabled;
+        }
+
+        public long getCoalesceMemoryLimit() {
+            return coalesceMemoryLimit;
+        }
+
+        public void setCoalesceMemoryLimit(long coalesceMemoryLimit) {
+            this.coalesceMemoryLimit = coalesceMemoryLimit;
+        }
+
+        public String getCoalesceSpillDir() {
+            return coalesceSpillDir;
+        }
+
+        public void setCoalesceSpillDir(String coalesceSpillDir) {
+            this.coalesceSpillDir = coalesceSpillDir;
+        }
+
+        @Override
+        public String toString() {
+            return "CacheConfig{" +
+                    "metadataEnabled=" + metadataEnabled +
+                    ", metadataMaxEntries=" + metadataMaxEntries +
+                    ", metadataTtl=" + metadataTtl +
+                    ", metadataNegativeTtl=" + metadataNegativeTtl +
+                    ", diskEnabled=" + diskEnabled +
+                    ", diskDir='" + diskDir + '\'' +
+                    ", diskMaxBytes=" + diskMaxBytes +
+                    ", diskMaxObjectSize=" + diskMaxObjectSize +
+                    ", diskRevalidateTtl=" + diskRevalidateTtl +
+                    ", memoryEnabled=" + memoryEnabled +
+                    ", memoryMaxBytes=" + memoryMaxBytes +
+                    ", memoryMaxObjectSize=" + memoryMaxObjectSize +
+                    ", memoryRevalidateTtl=" + memoryRevalidateTtl +
+                    ", coalesceEnabled=" + coalesceEnabled +
+                    ", coalesceMemoryLimit=" + coalesceMemoryLimit +
+                    ", coalesceSpillDir='" + coalesceSpillDir + '\'' +
                     '}';
         }
     }
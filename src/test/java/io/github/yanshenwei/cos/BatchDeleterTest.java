@@ -0,0 +1,101 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 批量删除: 去重后按单次上限切分, 失败原因以调用方传入的路径为键, 整批失败时该批全部记为失败
+ * @Date 2026/10/18 - 22:50
+ **********************************/
+
+class BatchDeleterTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void splitsIntoChunksAfterDeduplication() {
+        final List<String> paths = IntStream.range(0, 2500).mapToObj(i -> "p/" + i).collect(Collectors.toList());
+        paths.addAll(paths.subList(0, 10));
+        final List<Integer> sizes = Collections.synchronizedList(new ArrayList<>());
+        final BatchDeleteResult result = BatchDeleter.delete(paths, path -> "root/" + path, chunk -> {
+            sizes.add(chunk.size());
+            assertTrue(chunk.stream().allMatch(path -> path.startsWith("root/")));
+            return Collections.emptyMap();
+        }, executor, 2);
+        Collections.sort(sizes);
+        assertEquals(Arrays.asList(500, BatchDeleter.MAX_KEYS_PER_REQUEST, BatchDeleter.MAX_KEYS_PER_REQUEST), sizes);
+        assertEquals(2500, result.getRequested());
+        assertEquals(2500, result.getDeleted());
+        assertTrue(result.isSuccess());
+    }
+
+    @Test
+    void mapsFailuresToCallerPaths() {
+        final BatchDeleteResult result = BatchDeleter.delete(Arrays.asList("a", "b", "c"), path -> "root/" + path,
+                chunk -> Collections.singletonMap("root/b", "AccessDenied"), executor, 1);
+        assertEquals(3, result.getRequested());
+        assertEquals(2, result.getDeleted());
+        assertEquals(Collections.singletonMap("b", "AccessDenied"), result.getFailures());
+    }
+
+    @Test
+    void failedChunkMarksAllItsPaths() {
+        final List<String> paths = IntStream.range(0, 1500).mapToObj(i -> "p/" + i).collect(Collectors.toList());
+        final Map<String, Boolean> seen = new ConcurrentHashMap<>();
+        final BatchDeleteResult result = BatchDeleter.delete(paths, path -> path, chunk -> {
+            seen.put(chunk.get(0), true);
+            if (chunk.contains("p/0")) {
+                throw new IllegalStateException("网络异常");
+            }
+            return Collections.emptyMap();
+        }, executor, 2);
+        assertEquals(2, seen.size());
+        assertEquals(BatchDeleter.MAX_KEYS_PER_REQUEST, result.getFailures().size());
+        assertEquals("网络异常", result.getFailures().get("p/999"));
+        assertEquals(500, result.getDeleted());
+    }
+
+    @Test
+    void rejectedChunkIsReportedAsFailed() {
+        executor.shutdown();
+        final BatchDeleteResult result = BatchDeleter.delete(Collections.singletonList("a"), path -> path,
+                chunk -> Collections.emptyMap(), executor, 1);
+        assertEquals(0, result.getDeleted());
+        assertEquals(Collections.singleton("a"), result.getFailures().keySet());
+    }
+
+    @Test
+    void emptyInputDoesNothing() {
+        final BatchDeleteResult result = BatchDeleter.delete(Collections.emptyList(), path -> path, chunk -> {
+            throw new AssertionError();
+        }, executor, 1);
+        assertEquals(0, result.getRequested());
+        assertTrue(result.isSuccess());
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 并发读取合并: 同时读取同一对象只请求一次, 对象流分发给每个调用方; 写入后新的读取不再合并到旧请求
+ * @Date 2026/10/18 - 22:40
+ **********************************/
+
+class CoalescingStorageTest {
+
+    private static final int CALLERS = 8;
+
+    @TempDir
+    Path dir;
+
+    private FakeStorage storage;
+
+    private CoalescingStorage coalescing;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FakeStorage();
+        coalescing = new CoalescingStorage("oss", storage, 1024, dir.toString());
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.getGate = null;
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentReadsShareOneRequest() throws Exception {
+        // 超过内存上限, 分发时落盘
+        final byte[] content = MultipartUploaderTest.bytes(64 * 1024);
+        storage.put("a", content);
+        final CountDownLatch gate = new CountDownLatch(1);
+        storage.getGate = gate;
+        final List<Future<byte[]>> reads = new ArrayList<>();
+        reads.add(executor.submit(() -> DiskCachingStorageTest.read(coalescing, "a")));
+        await(() -> storage.calls("get") == 1);
+        for (int i = 1; i < CALLERS; i++) {
+            reads.add(executor.submit(() -> DiskCachingStorageTest.read(coalescing, "a")));
+        }
+        await(() -> coalescing.stats().getJoined() == CALLERS - 1);
+        gate.countDown();
+        for (Future<byte[]> read : reads) {
+            assertArrayEquals(content, read.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, storage.calls("get"));
+        final CoalesceStats stats = coalescing.stats();
+        assertEquals(1, stats.getRequests());
+        assertEquals(CALLERS - 1, stats.getJoined());
+        assertEquals(0, stats.getInFlight());
+    }
+
+    @Test
+    void sequentialReadsAreNotCoalesced() throws Exception {
+        storage.put("a", new byte[]{1});
+        assertArrayEquals(new byte[]{1}, DiskCachingStorageTest.read(coalescing, "a"));
+        assertArrayEquals(new byte[]{1}, DiskCachingStorageTest.read(coalescing, "a"));
+        assertEquals(2, storage.calls("get"));
+        assertEquals(0, coalescing.stats().getJoined());
+    }
+
+    @Test
+    void pathSpellingsShareRequest() throws Exception {
+        storage.put("a", new byte[]{1});
+        final CountDownLatch gate = new CountDownLatch(1);
+        storage.getGate = gate;
+        final Future<byte[]> leader = executor.submit(() -> DiskCachingStorageTest.read(coalescing, "a"));
+        await(() -> storage.calls("get") == 1);
+        final Future<byte[]> joiner = executor.submit(() -> DiskCachingStorageTest.read(coalescing, "/a"));
+        await(() -> coalescing.stats().getJoined() == 1);
+        gate.countDown();
+        assertArrayEquals(new byte[]{1}, leader.get(10, TimeUnit.SECONDS));
+        assertArrayEquals(new byte[]{1}, joiner.get(10, TimeUnit.SECONDS));
+        assertEquals(1, storage.calls("get"));
+    }
+
+    @Test
+    void writeDetachesInFlightRead() throws Exception {
+        storage.put("a", new byte[]{1});
+        final CountDownLatch gate = new CountDownLatch(1);
+        storage.getGate = gate;
+        final Future<byte[]> stale = executor.submit(() -> DiskCachingStorageTest.read(coalescing, "a"));
+        await(() -> storage.calls("get") == 1);
+        assertTrue(coalescing.putObject("a", new byte[]{2}));
+        final Future<byte[]> fresh = executor.submit(() -> DiskCachingStorageTest.read(coalescing, "a"));
+        await(() -> storage.calls("get") == 2);
+        gate.countDown();
+        stale.get(10, TimeUnit.SECONDS);
+        assertArrayEquals(new byte[]{2}, fresh.get(10, TimeUnit.SECONDS));
+        assertEquals(0, coalescing.stats().getJoined());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "等待超时");
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**********************************
+ * @Author YSW
+ * @Description 磁盘缓存: 重新校验间隔内不查询元数据, 过期后按 ETag 校验, 经缓存写入时立即失效, 重启后沿用缓存文件
+ * @Date 2026/10/18 - 22:20
+ **********************************/
+
+class DiskCachingStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private FakeStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FakeStorage();
+        storage.put("a", new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void hitWithinTtlSkipsStat() throws IOException {
+        final DiskCachingStorage cache = cache(60000);
+        assertArrayEquals(new byte[]{1, 2, 3}, read(cache, "a"));
+        assertArrayEquals(new byte[]{1, 2, 3}, read(cache, "a"));
+        assertEquals(1, storage.calls("get"));
+        assertEquals(1, storage.calls("stat"));
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void zeroTtlRevalidatesEveryRead() throws IOException {
+        final DiskCachingStorage cache = cache(0);
+        read(cache, "a");
+        read(cache, "a");
+        assertEquals(1, storage.calls("get"));
+        assertEquals(2, storage.calls("stat"));
+        // 其他客户端修改后 ETag 变化
+        storage.put("a", new byte[]{9});
+        assertArrayEquals(new byte[]{9}, read(cache, "a"));
+        assertEquals(2, storage.calls("get"));
+    }
+
+    @Test
+    void expiredEntryIsRevalidated() throws Exception {
+        final DiskCachingStorage cache = cache(50);
+        read(cache, "a");
+        storage.put("a", new byte[]{7});
+        assertArrayEquals(new byte[]{1, 2, 3}, read(cache, "a"));
+        Thread.sleep(100);
+        assertArrayEquals(new byte[]{7}, read(cache, "a"));
+    }
+
+    @Test
+    void writeThroughCacheInvalidatesWithinTtl() throws IOException {
+        final DiskCachingStorage cache = cache(60000);
+        read(cache, "a");
+        cache.putObject("a", new byte[]{5});
+        assertArrayEquals(new byte[]{5}, read(cache, "a"));
+        cache.deleteObject("a");
+        assertNull(cache.getObject("a"));
+    }
+
+    @Test
+    void prefixWriteInvalidates() throws IOException {
+        storage.put("p/b", new byte[]{1});
+        final DiskCachingStorage cache = cache(60000);
+        read(cache, "p/b");
+        storage.put("p/b", new byte[]{2});
+        cache.writtenPrefix("p/");
+        assertArrayEquals(new byte[]{2}, read(cache, "p/b"));
+    }
+
+    @Test
+    void pathSpellingsShareEntry() throws IOException {
+        final DiskCachingStorage cache = cache(60000);
+        read(cache, "a");
+        assertArrayEquals(new byte[]{1, 2, 3}, read(cache, "/a"));
+        assertEquals(1, storage.calls("stat"));
+        cache.deleteObject("//a");
+        read(cache, "a");
+        assertEquals(2, storage.calls("stat"));
+    }
+
+    @Test
+    void restartReusesCacheFiles() throws IOException {
+        read(cache(60000), "a");
+        final DiskCachingStorage restarted = cache(60000);
+        assertArrayEquals(new byte[]{1, 2, 3}, read(restarted, "a"));
+        assertEquals(1, storage.calls("get"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxBytes() throws IOException {
+        storage.put("b", new byte[4]);
+        storage.put("c", new byte[4]);
+        final DiskCachingStorage cache = new DiskCachingStorage("oss", storage, dir, 8, 8, 60000);
+        read(cache, "b");
+        read(cache, "c");
+        read(cache, "a");
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals(7, cache.stats().getSize());
+    }
+
+    private DiskCachingStorage cache(long revalidateTtl) throws IOException {
+        return new DiskCachingStorage("oss", storage, dir, 1024 * 1024, 1024 * 1024, revalidateTtl);
+    }
+
+    static byte[] read(CosStorage storage, String path) throws IOException {
+        final CosObject cosObject = storage.getObject(path);
+        try (InputStream inputStream = cosObject.getInputStream()) {
+            return StreamTeeTest.readAll(inputStream);
+        }
+    }
+}
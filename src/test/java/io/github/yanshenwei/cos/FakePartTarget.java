@@ -0,0 +1,124 @@
+package io.github.yanshenwei.cos;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**********************************
+ * @Author YSW
+ * @Description 内存分片上传目标, 记录各调用并可注入分片失败与 uploadId 失效
+ * @Date 2026/10/18 - 21:30
+ **********************************/
+
+class FakePartTarget implements MultipartUploader.Target {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+    final List<Integer> uploadedParts = new CopyOnWriteArrayList<>();
+
+    final Set<String> aborted = ConcurrentHashMap.newKeySet();
+
+    final AtomicInteger singlePuts = new AtomicInteger();
+
+    final AtomicInteger initiates = new AtomicInteger();
+
+    final AtomicInteger completes = new AtomicInteger();
+
+    /**
+     * 上传这些分片号时抛出异常
+     */
+    final Set<Integer> failingParts = new HashSet<>();
+
+    /**
+     * 服务端已失效的 uploadId
+     */
+    final Set<String> missingUploads = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public boolean putSingle(String path, byte[] data, int length, String contentType, PutCondition condition) {
+        singlePuts.incrementAndGet();
+        objects.put(path, Arrays.copyOf(data, length));
+        return true;
+    }
+
+    @Override
+    public String initiate(String path, String contentType, PutCondition condition) {
+        final String uploadId = "upload-" + initiates.incrementAndGet();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        return uploadId;
+    }
+
+    @Override
+    public String uploadPart(String path, String uploadId, int partNumber, byte[] data, int length) throws Exception {
+        if (missingUploads.contains(uploadId)) {
+            throw new NoSuchUploadException(uploadId);
+        }
+        synchronized (failingParts) {
+            if (failingParts.contains(partNumber)) {
+                throw new IOException("分片 " + partNumber + " 上传失败");
+            }
+        }
+        uploads.get(uploadId).put(partNumber, Arrays.copyOf(data, length));
+        uploadedParts.add(partNumber);
+        return "etag-" + partNumber;
+    }
+
+    @Override
+    public boolean complete(String path, String uploadId, List<String> etags, PutCondition condition) throws Exception {
+        if (missingUploads.contains(uploadId)) {
+            throw new NoSuchUploadException(uploadId);
+        }
+        completes.incrementAndGet();
+        final Map<Integer, byte[]> parts = uploads.remove(uploadId);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (int i = 1; i <= etags.size(); i++) {
+            if (!("etag-" + i).equals(etags.get(i - 1)) || parts.get(i) == null) {
+                throw new IOException("分片 " + i + " 不存在");
+            }
+            content.write(parts.get(i));
+        }
+        objects.put(path, content.toByteArray());
+        return true;
+    }
+
+    @Override
+    public void abort(String path, String uploadId) {
+        aborted.add(uploadId);
+        uploads.remove(uploadId);
+    }
+
+    @Override
+    public boolean isUploadMissing(Throwable e) {
+        return e instanceof NoSuchUploadException;
+    }
+
+    void failPart(int partNumber) {
+        synchronized (failingParts) {
+            failingParts.add(partNumber);
+        }
+    }
+
+    void clearFailures() {
+        synchronized (failingParts) {
+            failingParts.clear();
+        }
+    }
+
+    static class NoSuchUploadException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        NoSuchUploadException(String uploadId) {
+            super("NoSuchUpload " + uploadId);
+        }
+    }
+}
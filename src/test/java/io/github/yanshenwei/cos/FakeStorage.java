@@ -0,0 +1,225 @@
+package io.github.yanshenwei.cos;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**********************************
+ * @Author YSW
+ * @Description 内存云存储, 记录各操作的调用次数, 可注入失败路径与阻塞的 getObject
+ * @Date 2026/10/18 - 22:00
+ **********************************/
+
+class FakeStorage implements CosStorage {
+
+    private final ConcurrentSkipListMap<String, Stored> objects = new ConcurrentSkipListMap<>();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    /**
+     * 对这些路径的写入 / 复制 / 删除返回失败
+     */
+    final Set<String> failingPaths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 非 null 时 getObject 等待放行
+     */
+    volatile CountDownLatch getGate;
+
+    /**
+     * listObjects 每页条数
+     */
+    volatile int pageSize = 2;
+
+    void put(String path, byte[] content) {
+        objects.put(path, new Stored(content, "application/octet-stream", "etag-" + versions.incrementAndGet()));
+    }
+
+    byte[] content(String path) {
+        final Stored stored = objects.get(path);
+        return stored == null ? null : stored.content;
+    }
+
+    Set<String> paths() {
+        return objects.keySet();
+    }
+
+    int calls(String op) {
+        final AtomicInteger count = calls.get(op);
+        return count == null ? 0 : count.get();
+    }
+
+    private void count(String op) {
+        calls.computeIfAbsent(op, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    @Override
+    public boolean putObject(String objectPath, byte[] content) {
+        count("put");
+        if (failingPaths.contains(objectPath)) {
+            return false;
+        }
+        put(objectPath, content);
+        return true;
+    }
+
+    @Override
+    public boolean putObject(String objectPath, InputStream inputStream, String contentType,
+                             PutCondition condition) {
+        count("put");
+        if (failingPaths.contains(objectPath)) {
+            return false;
+        }
+        try {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int n;
+            while ((n = inputStream.read(buffer)) >= 0) {
+                content.write(buffer, 0, n);
+            }
+            objects.put(objectPath, new Stored(content.toByteArray(), contentType,
+                    "etag-" + versions.incrementAndGet()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean copyObject(String sourceObject, String targetObject, boolean isCover) {
+        count("copy");
+        final Stored source = objects.get(sourceObject);
+        if (source == null || failingPaths.contains(sourceObject)) {
+            return false;
+        }
+        if (!isCover && objects.containsKey(targetObject)) {
+            return false;
+        }
+        objects.put(targetObject, new Stored(source.content, source.contentType,
+                "etag-" + versions.incrementAndGet()));
+        return true;
+    }
+
+    @Override
+    public CosObject getObject(String objectPath) {
+        count("get");
+        final CountDownLatch gate = getGate;
+        if (gate != null) {
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        final Stored stored = objects.get(objectPath);
+        if (stored == null) {
+            return null;
+        }
+        final CosObject cosObject = meta(objectPath, stored);
+        cosObject.setInputStream(new ByteArrayInputStream(stored.content));
+        return cosObject;
+    }
+
+    @Override
+    public CosObject statObject(String objectPath) {
+        count("stat");
+        final Stored stored = objects.get(objectPath);
+        return stored == null ? null : meta(objectPath, stored);
+    }
+
+    @Override
+    public boolean isObjectExist(String objectPath) {
+        count("exist");
+        return objects.containsKey(objectPath);
+    }
+
+    @Override
+    public boolean deleteObject(String objectPath) {
+        count("delete");
+        if (failingPaths.contains(objectPath)) {
+            return false;
+        }
+        objects.remove(objectPath);
+        return true;
+    }
+
+    @Override
+    public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+        count("deleteObjects");
+        final Map<String, String> failures = new LinkedHashMap<>();
+        for (String path : objectPaths) {
+            if (failingPaths.contains(path)) {
+                failures.put(path, "AccessDenied");
+            } else {
+                objects.remove(path);
+            }
+        }
+        return new BatchDeleteResult(objectPaths.size(), failures);
+    }
+
+    @Override
+    public Stream<CosObjectSummary> listObjects(String prefix, String delimiter) {
+        count("list");
+        return ObjectLister.stream(token -> {
+            final List<CosObjectSummary> page = new ArrayList<>();
+            String next = null;
+            for (Map.Entry<String, Stored> entry : objects.tailMap(token == null ? prefix : token, token == null)
+                    .entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                if (page.size() == pageSize) {
+                    next = page.get(page.size() - 1).getPath();
+                    break;
+                }
+                final CosObjectSummary summary = new CosObjectSummary();
+                summary.setPath(entry.getKey());
+                summary.setSize(entry.getValue().content.length);
+                summary.setEtag(entry.getValue().etag);
+                page.add(summary);
+            }
+            return new ObjectLister.Page(page, new ArrayList<>(), next);
+        }, null);
+    }
+
+    private static CosObject meta(String path, Stored stored) {
+        final CosObject cosObject = new CosObject();
+        cosObject.setPath(path);
+        cosObject.setContentLength((long) stored.content.length);
+        cosObject.setTotalLength((long) stored.content.length);
+        cosObject.setContentType(stored.contentType);
+        cosObject.setEtag(stored.etag);
+        return cosObject;
+    }
+
+    private static class Stored {
+
+        private final byte[] content;
+
+        private final String contentType;
+
+        private final String etag;
+
+        Stored(byte[] content, String contentType, String etag) {
+            this.content = content;
+            this.contentType = contentType;
+            this.etag = etag;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 内存缓存: 重新校验间隔内不查询元数据, 经缓存写入时立即失效, 未关闭即被回收的对象流释放内存块
+ * @Date 2026/10/18 - 22:30
+ **********************************/
+
+class MemoryCachingStorageTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private FakeStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FakeStorage();
+        storage.put("a", new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void hitWithinTtlSkipsStat() throws IOException {
+        final MemoryCachingStorage cache = new MemoryCachingStorage("oss", storage, MB, 1024, 60000);
+        assertArrayEquals(new byte[]{1, 2, 3}, DiskCachingStorageTest.read(cache, "a"));
+        assertArrayEquals(new byte[]{1, 2, 3}, DiskCachingStorageTest.read(cache, "a"));
+        assertEquals(1, storage.calls("get"));
+        assertEquals(1, storage.calls("stat"));
+        assertEquals(1, cache.stats().getHits());
+    }
+
+    @Test
+    void zeroTtlSeesExternalChange() throws IOException {
+        final MemoryCachingStorage cache = new MemoryCachingStorage("oss", storage, MB, 1024, 0);
+        DiskCachingStorageTest.read(cache, "a");
+        DiskCachingStorageTest.read(cache, "a");
+        assertEquals(1, storage.calls("get"));
+        assertEquals(2, storage.calls("stat"));
+        storage.put("a", new byte[]{9});
+        assertArrayEquals(new byte[]{9}, DiskCachingStorageTest.read(cache, "a"));
+    }
+
+    @Test
+    void writeThroughCacheInvalidatesWithinTtl() throws IOException {
+        final MemoryCachingStorage cache = new MemoryCachingStorage("oss", storage, MB, 1024, 60000);
+        DiskCachingStorageTest.read(cache, "a");
+        cache.putObject("a", new byte[]{5});
+        assertArrayEquals(new byte[]{5}, DiskCachingStorageTest.read(cache, "a"));
+        assertEquals(2, storage.calls("get"));
+    }
+
+    @Test
+    void pathSpellingsShareEntry() throws IOException {
+        final MemoryCachingStorage cache = new MemoryCachingStorage("oss", storage, MB, 1024, 60000);
+        DiskCachingStorageTest.read(cache, "a");
+        assertArrayEquals(new byte[]{1, 2, 3}, DiskCachingStorageTest.read(cache, "/a"));
+        assertEquals(1, storage.calls("stat"));
+        cache.deleteObject("//a");
+        DiskCachingStorageTest.read(cache, "a");
+        assertEquals(2, storage.calls("stat"));
+    }
+
+    @Test
+    void leakedViewIsReclaimed() throws Exception {
+        // 只有一个 1MB 内存块, 未关闭的对象流占用期间无法缓存其他对象
+        storage.put("a", MultipartUploaderTest.bytes(MB));
+        storage.put("b", MultipartUploaderTest.bytes(MB));
+        final MemoryCachingStorage cache = new MemoryCachingStorage("oss", storage, MB, MB, 60000);
+        leak(cache, "a");
+        boolean cached = false;
+        for (int i = 0; i < 50 && !cached; i++) {
+            System.gc();
+            Thread.sleep(20);
+            DiskCachingStorageTest.read(cache, "b");
+            final int calls = storage.calls("get");
+            DiskCachingStorageTest.read(cache, "b");
+            cached = storage.calls("get") == calls;
+        }
+        assertTrue(cached);
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    private static void leak(MemoryCachingStorage cache, String path) {
+        assertNotNull(cache.getObject(path).getInputStream());
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 元数据缓存: 有效期内不查询云存储, 经缓存写入或删除时失效, 按条数上限淘汰
+ * @Date 2026/10/18 - 22:20
+ **********************************/
+
+class MetadataCachingStorageTest {
+
+    private FakeStorage storage;
+
+    private MetadataCachingStorage cache;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FakeStorage();
+        storage.put("a", new byte[]{1});
+        cache = new MetadataCachingStorage("oss", storage, 2, 60000, 60000);
+    }
+
+    @Test
+    void repeatedLookupsHitCache() {
+        assertTrue(cache.isObjectExist("a"));
+        assertTrue(cache.isObjectExist("a"));
+        assertEquals(1, storage.calls("exist"));
+        final String etag = cache.statObject("a").getEtag();
+        assertEquals(etag, cache.statObject("a").getEtag());
+        assertEquals(1, storage.calls("stat"));
+        assertEquals(2, cache.stats().getHits());
+    }
+
+    @Test
+    void negativeResultIsCachedUntilWrite() {
+        assertFalse(cache.isObjectExist("b"));
+        assertNull(cache.statObject("b"));
+        assertEquals(1, storage.calls("exist"));
+        assertEquals(0, storage.calls("stat"));
+        assertTrue(cache.putObject("b", new byte[]{2}));
+        assertTrue(cache.isObjectExist("b"));
+        assertEquals(2, storage.calls("exist"));
+    }
+
+    @Test
+    void writeAndDeleteInvalidate() {
+        final String before = cache.statObject("a").getEtag();
+        cache.putObject("a", new byte[]{3});
+        final String after = cache.statObject("a").getEtag();
+        assertNotEquals(before, after);
+        cache.deleteObject("a");
+        assertNull(cache.statObject("a"));
+        assertEquals(3, storage.calls("stat"));
+    }
+
+    @Test
+    void externalWriteInvalidatesThroughCacheChain() {
+        cache.statObject("a");
+        storage.put("a", new byte[]{4});
+        cache.invalidate("a");
+        assertEquals(storage.statObject("a").getEtag(), cache.statObject("a").getEtag());
+    }
+
+    @Test
+    void pathSpellingsShareEntry() {
+        cache.statObject("a");
+        cache.statObject("/a");
+        assertEquals(1, storage.calls("stat"));
+        cache.putObject("//a", new byte[]{5});
+        cache.statObject("a");
+        assertEquals(2, storage.calls("stat"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        storage.put("b", new byte[]{1});
+        storage.put("c", new byte[]{1});
+        cache.isObjectExist("a");
+        cache.isObjectExist("b");
+        cache.isObjectExist("a");
+        cache.isObjectExist("c");
+        assertEquals(1, cache.stats().getEvictions());
+        final int calls = storage.calls("exist");
+        cache.isObjectExist("a");
+        assertEquals(calls, storage.calls("exist"));
+        cache.isObjectExist("b");
+        assertEquals(calls + 1, storage.calls("exist"));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**********************************
+ * @Author YSW
+ * @Description minio 对象键: 多对象删除请求中的对象名不以 "/" 开头, 失败结果按对象名映射回调用方路径
+ * @Date 2026/10/19 - 10:10
+ **********************************/
+
+class MinioObjectKeyTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void formatsKeysWithoutLeadingSlash() {
+        assertEquals("a/b.txt", MinioModel.objectKey("", "a/b.txt"));
+        assertEquals("a/b.txt", MinioModel.objectKey("", "/a//b.txt"));
+        assertEquals("data/a/b.txt", MinioModel.objectKey("data/", "/a/b.txt"));
+        assertEquals("data/", MinioModel.objectKey("/data/", ""));
+        assertEquals("", MinioModel.objectKey("", ""));
+    }
+
+    @Test
+    void batchDeleteSendsObjectKeys() {
+        final List<String> sent = new ArrayList<>();
+        final BatchDeleteResult result = BatchDeleter.delete(Arrays.asList("a/b.txt", "/a/c.txt", "a//b.txt"),
+                path -> MinioModel.objectKey("data/", path), keys -> {
+                    sent.addAll(keys);
+                    // 服务端以对象名返回删除失败的对象
+                    return Collections.singletonMap("data/a/c.txt", "AccessDenied");
+                }, executor, 1);
+        assertEquals(Arrays.asList("data/a/b.txt", "data/a/c.txt"), sent);
+        assertEquals(Collections.singletonMap("/a/c.txt", "AccessDenied"), result.getFailures());
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 分片上传: 不足一个分片走单次上传, 分片按序合并, 失败时中止分片上传
+ * @Date 2026/10/18 - 21:30
+ **********************************/
+
+class MultipartUploaderTest {
+
+    private static final int PART_SIZE = 1024;
+
+    private ExecutorService executor;
+
+    private FakePartTarget target;
+
+    private MultipartUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        target = new FakePartTarget();
+        uploader = new MultipartUploader(target, executor, PART_SIZE, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shortStreamUsesSinglePut() throws Exception {
+        final byte[] content = bytes(PART_SIZE - 1);
+        assertTrue(uploader.upload("a", new ByteArrayInputStream(content), null, null));
+        assertEquals(1, target.singlePuts.get());
+        assertEquals(0, target.initiates.get());
+        assertArrayEquals(content, target.objects.get("a"));
+    }
+
+    @Test
+    void streamIsSplitIntoOrderedParts() throws Exception {
+        final byte[] content = bytes(PART_SIZE * 3 + 7);
+        assertTrue(uploader.upload("a", new ByteArrayInputStream(content), null, null));
+        assertEquals(0, target.singlePuts.get());
+        assertEquals(4, target.uploadedParts.size());
+        assertArrayEquals(content, target.objects.get("a"));
+    }
+
+    @Test
+    void streamOfExactPartsHasNoEmptyTrailingPart() throws Exception {
+        final byte[] content = bytes(PART_SIZE * 2);
+        assertTrue(uploader.upload("a", new ByteArrayInputStream(content), null, null));
+        assertEquals(2, target.uploadedParts.size());
+        assertArrayEquals(content, target.objects.get("a"));
+    }
+
+    @Test
+    void streamPartFailureAbortsUpload() {
+        target.failPart(2);
+        assertThrows(ExecutionException.class,
+                () -> uploader.upload("a", new ByteArrayInputStream(bytes(PART_SIZE * 4)), null, null));
+        assertTrue(target.aborted.contains("upload-1"));
+        assertEquals(0, target.completes.get());
+        assertTrue(target.objects.isEmpty());
+    }
+
+    @Test
+    void fileIsUploadedInParallelParts(@TempDir Path dir) throws Exception {
+        final byte[] content = bytes(PART_SIZE * 5 + 100);
+        final File file = write(dir, content);
+        assertTrue(uploader.uploadFile("a", file, null, null));
+        assertEquals(6, target.uploadedParts.size());
+        assertArrayEquals(content, target.objects.get("a"));
+    }
+
+    @Test
+    void emptyFileUsesSinglePut(@TempDir Path dir) throws Exception {
+        assertTrue(uploader.uploadFile("a", write(dir, new byte[0]), null, null));
+        assertEquals(1, target.singlePuts.get());
+        assertEquals(0, target.objects.get("a").length);
+    }
+
+    @Test
+    void filePartFailureAbortsUpload(@TempDir Path dir) throws Exception {
+        target.failPart(3);
+        final File file = write(dir, bytes(PART_SIZE * 5));
+        assertThrows(ExecutionException.class, () -> uploader.uploadFile("a", file, null, null));
+        assertTrue(target.aborted.contains("upload-1"));
+        assertEquals(0, target.completes.get());
+    }
+
+    @Test
+    void filePartSizeGrowsToStayWithinPartCountLimit() {
+        assertEquals(PART_SIZE, uploader.filePartSize(PART_SIZE * 10L));
+        final long length = (long) PART_SIZE * MultipartUploader.MAX_PART_COUNT * 3;
+        final int partSize = uploader.filePartSize(length);
+        assertTrue((length + partSize - 1) / partSize <= MultipartUploader.MAX_PART_COUNT);
+    }
+
+    @Test
+    void configuredPartSizeIsClampedToMinimum() {
+        assertEquals(MultipartUploader.MIN_PART_SIZE, MultipartUploader.checkPartSize(1024 * 1024, "oss"));
+        assertEquals(MultipartUploader.MIN_PART_SIZE, MultipartUploader.checkPartSize(0, "minio"));
+        assertEquals(MultipartUploader.MIN_PART_SIZE,
+                MultipartUploader.checkPartSize(MultipartUploader.MIN_PART_SIZE, "oss"));
+        assertEquals(8 * 1024 * 1024, MultipartUploader.checkPartSize(8 * 1024 * 1024, "oss"));
+    }
+
+    static byte[] bytes(int length) {
+        final byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
+    static File write(Path dir, byte[] content) throws IOException {
+        final Path file = Files.createTempFile(dir, "upload", ".bin");
+        Files.write(file, content);
+        return file.toFile();
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 分页列举: 迭代到页末尾才请求下一页, 预取在线程池中执行, 请求失败在迭代中抛出, 目录条目按路径合并
+ * @Date 2026/10/18 - 22:55
+ **********************************/
+
+class ObjectListerTest {
+
+    /**
+     * 已请求的续传标记
+     */
+    private final List<String> tokens = new CopyOnWriteArrayList<>();
+
+    /**
+     * 三页: [a, b] [c, d] [e]
+     */
+    private ObjectLister.Page fetch(String token) {
+        tokens.add(String.valueOf(token));
+        if (token == null) {
+            return page(null, "1", "a", "b");
+        }
+        if ("1".equals(token)) {
+            return page(null, "2", "c", "d");
+        }
+        return page(null, null, "e");
+    }
+
+    @Test
+    void fetchesPagesLazily() {
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(this::fetch, null)) {
+            final Iterator<CosObjectSummary> iterator = stream.iterator();
+            assertTrue(tokens.isEmpty());
+            assertEquals("a", iterator.next().getPath());
+            assertEquals("b", iterator.next().getPath());
+            assertEquals(Collections.singletonList("null"), tokens);
+            assertEquals("c", iterator.next().getPath());
+            assertEquals(Arrays.asList("null", "1"), tokens);
+        }
+    }
+
+    @Test
+    void stopsAfterLastPageAndLimitStopsEarly() {
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(this::fetch, null)) {
+            assertEquals(Arrays.asList("a", "b", "c", "d", "e"),
+                    stream.map(CosObjectSummary::getPath).collect(Collectors.toList()));
+        }
+        assertEquals(3, tokens.size());
+        tokens.clear();
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(this::fetch, null)) {
+            assertEquals(2, stream.limit(2).count());
+        }
+        assertEquals(1, tokens.size());
+    }
+
+    @Test
+    void prefetchesNextPageOnExecutor() {
+        final AtomicInteger submitted = new AtomicInteger();
+        final Executor executor = command -> {
+            submitted.incrementAndGet();
+            command.run();
+        };
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(this::fetch, executor)) {
+            final Iterator<CosObjectSummary> iterator = stream.iterator();
+            iterator.next();
+            // 第一页由迭代线程请求, 第二页在取得第一页后即预取
+            assertEquals(Arrays.asList("null", "1"), tokens);
+            assertEquals(1, submitted.get());
+            iterator.forEachRemaining(summary -> { });
+        }
+        assertEquals(Arrays.asList("null", "1", "2"), tokens);
+        assertEquals(2, submitted.get());
+    }
+
+    @Test
+    void rejectedPrefetchFallsBackToIteratingThread() {
+        final Executor executor = command -> {
+            throw new RejectedExecutionException();
+        };
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(this::fetch, executor)) {
+            assertEquals(5, stream.count());
+        }
+    }
+
+    @Test
+    void fetchErrorIsThrownWhileIterating() {
+        final ObjectLister.PageFetcher failing = token -> {
+            if (token != null) {
+                throw new IOException("连接断开");
+            }
+            return page(null, "1", "a");
+        };
+        for (Executor executor : Arrays.<Executor>asList(null, Runnable::run)) {
+            try (Stream<CosObjectSummary> stream = ObjectLister.stream(failing, executor)) {
+                final Iterator<CosObjectSummary> iterator = stream.iterator();
+                assertEquals("a", iterator.next().getPath());
+                final IllegalStateException e = assertThrows(IllegalStateException.class, iterator::hasNext);
+                assertTrue(e.getMessage().contains("连接断开"));
+            }
+        }
+    }
+
+    @Test
+    void emptyTruncatedPageIsSkipped() {
+        final ObjectLister.PageFetcher fetcher = token -> token == null ? page(null, "1") : page(null, null, "a");
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(fetcher, null)) {
+            assertEquals(1, stream.count());
+        }
+    }
+
+    @Test
+    void pageMergesDirectoriesInPathOrder() {
+        final ObjectLister.Page page = page(Arrays.asList("b/", "d/"), null, "a", "c", "e");
+        final List<String> paths = new ArrayList<>();
+        final AtomicInteger directories = new AtomicInteger();
+        try (Stream<CosObjectSummary> stream = ObjectLister.stream(token -> page, null)) {
+            stream.forEach(summary -> {
+                paths.add(summary.getPath());
+                if (summary.isDirectory()) {
+                    directories.incrementAndGet();
+                }
+            });
+        }
+        assertEquals(Arrays.asList("a", "b/", "c", "d/", "e"), paths);
+        assertEquals(2, directories.get());
+    }
+
+    private static ObjectLister.Page page(List<String> directories, String nextToken, String... objects) {
+        final List<CosObjectSummary> summaries = new ArrayList<>();
+        for (String path : objects) {
+            final CosObjectSummary summary = new CosObjectSummary();
+            summary.setPath(path);
+            summaries.add(summary);
+        }
+        final List<CosObjectSummary> prefixes = directories == null ? Collections.emptyList()
+                : directories.stream().map(ObjectLister::directory).collect(Collectors.toList());
+        return new ObjectLister.Page(summaries, prefixes, nextToken);
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 前缀复制 / 移动: 不覆盖时归并跳过已存在的目标, 移动时只删除复制成功的源对象, 拒绝重叠前缀, 线程池拒绝时在调用线程复制
+ * @Date 2026/10/18 - 23:00
+ **********************************/
+
+class PrefixCopierTest {
+
+    private FakeStorage storage;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        storage = new FakeStorage();
+        for (String name : Arrays.asList("1", "2", "3", "4", "5")) {
+            storage.put("src/" + name, name.getBytes());
+        }
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void copiesAllObjects() {
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "/src/", "dst/", true, false, executor, 2);
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getListed());
+        assertEquals(5, result.getCopied());
+        assertEquals(5, result.getBytes());
+        assertArrayEquals("3".getBytes(), storage.content("dst/3"));
+        assertArrayEquals("3".getBytes(), storage.content("src/3"));
+    }
+
+    @Test
+    void skipsExistingTargetsWithoutOverwrite() {
+        storage.put("dst/2", new byte[]{0});
+        storage.put("dst/4", new byte[]{0});
+        storage.put("dst/9", new byte[]{0});
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", "dst/", false, false, executor, 2);
+        assertTrue(result.isSuccess());
+        assertEquals(3, result.getCopied());
+        assertEquals(2, result.getSkipped());
+        assertEquals(3, storage.calls("copy"));
+        // 归并目标列举, 不逐个检查是否存在
+        assertEquals(0, storage.calls("exist"));
+        assertArrayEquals(new byte[]{0}, storage.content("dst/2"));
+        assertArrayEquals("5".getBytes(), storage.content("dst/5"));
+    }
+
+    @Test
+    void moveDeletesCopiedSourcesOnly() {
+        storage.failingPaths.add("src/2");
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", "dst/", true, true, executor, 2);
+        assertFalse(result.isSuccess());
+        assertEquals(Collections.singleton("src/2"), result.getFailures().keySet());
+        assertEquals(4, result.getCopied());
+        assertEquals(4, result.getDeleted());
+        assertEquals(Arrays.asList("dst/1", "dst/3", "dst/4", "dst/5", "src/2"), new ArrayList<>(storage.paths()));
+    }
+
+    @Test
+    void moveReportsFailedSourceDeletes() {
+        // 复制成功但删除源对象失败
+        final FakeStorage storage = new FakeStorage() {
+            @Override
+            public BatchDeleteResult deleteObjects(Collection<String> objectPaths) {
+                failingPaths.add("src/4");
+                return super.deleteObjects(objectPaths);
+            }
+        };
+        storage.put("src/4", new byte[]{4});
+        storage.put("src/5", new byte[]{5});
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", "dst/", true, true, executor, 1);
+        assertEquals(2, result.getCopied());
+        assertEquals(1, result.getDeleted());
+        assertTrue(result.getFailures().get("src/4").startsWith("删除源对象失败"));
+        assertEquals(Arrays.asList("dst/4", "dst/5", "src/4"), new ArrayList<>(storage.paths()));
+    }
+
+    @Test
+    void targetCreatedAfterListingIsNotOverwritten() {
+        // 目标对象在列举之后才出现, 由条件复制跳过
+        final FakeStorage storage = new FakeStorage() {
+            @Override
+            public boolean copyObject(String sourceObject, String targetObject, boolean isCover) {
+                if ("dst/3".equals(targetObject)) {
+                    put(targetObject, new byte[]{0});
+                }
+                return super.copyObject(sourceObject, targetObject, isCover);
+            }
+        };
+        for (String name : Arrays.asList("1", "2", "3")) {
+            storage.put("src/" + name, name.getBytes());
+        }
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", "dst/", false, false, executor, 1);
+        assertTrue(result.isSuccess());
+        assertEquals(2, result.getCopied());
+        assertEquals(1, result.getSkipped());
+        assertArrayEquals(new byte[]{0}, storage.content("dst/3"));
+    }
+
+    @Test
+    void rejectsSourceInsideTarget() {
+        for (String target : Arrays.asList("src/", "src", "", "/")) {
+            final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", target, true, false, executor, 2);
+            assertFalse(result.isSuccess(), target);
+        }
+        assertFalse(PrefixCopier.copy(storage, "src/sub/", "src/", true, false, executor, 2).isSuccess());
+        assertEquals(0, storage.calls("list"));
+        assertEquals(0, storage.calls("copy"));
+    }
+
+    @Test
+    void copiesIntoSiblingPrefix() {
+        storage.put("src2/9", new byte[]{9});
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src", "src2", true, false, executor, 2);
+        assertTrue(result.isSuccess());
+        // 源前缀 "src" 也匹配 "src2/9", 目标前缀下的对象不作为源对象
+        assertEquals(5, result.getListed());
+        assertArrayEquals("1".getBytes(), storage.content("src2/1"));
+        assertFalse(storage.paths().contains("src22/9"));
+    }
+
+    @Test
+    void copiesRootIntoSubdirectory() {
+        storage.put("backup/0", new byte[]{0});
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "", "backup/", true, false, executor, 2);
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getCopied());
+        assertArrayEquals("5".getBytes(), storage.content("backup/src/5"));
+        assertFalse(storage.paths().contains("backup/backup/0"));
+    }
+
+    @Test
+    void rejectedExecutorCopiesInline() {
+        final PrefixCopyResult result = PrefixCopier.copy(storage, "src/", "dst/", true, false, command -> {
+            throw new RejectedExecutionException();
+        }, 2);
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.getCopied());
+    }
+}
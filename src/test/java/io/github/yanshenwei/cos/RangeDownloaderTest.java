@@ -0,0 +1,108 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 分段下载: 各分段按位置写入, 以同一 ETag 请求; 分段失败或读取不完整时删除临时文件且不替换目标文件
+ * @Date 2026/10/18 - 23:10
+ **********************************/
+
+class RangeDownloaderTest {
+
+    private static final int PART_SIZE = 1000;
+
+    @TempDir
+    Path dir;
+
+    private final byte[] content = MultipartUploaderTest.bytes(3500);
+
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void assemblesRangesInOrder() throws Exception {
+        final Path target = dir.resolve("sub/a.bin");
+        downloader(false).download("a", content.length, "etag-1", target);
+        assertArrayEquals(content, Files.readAllBytes(target));
+        assertEquals(4, ranges.size());
+        assertTrue(ranges.containsAll(Arrays.asList("0-999@etag-1", "1000-1999@etag-1", "2000-2999@etag-1",
+                "3000-3499@etag-1")));
+        assertFalse(Files.exists(dir.resolve("sub/a.bin.download")));
+    }
+
+    @Test
+    void emptyObjectCreatesEmptyFile() throws Exception {
+        final Path target = dir.resolve("empty");
+        downloader(false).download("a", 0, "etag-1", target);
+        assertEquals(0, Files.size(target));
+        assertTrue(ranges.isEmpty());
+    }
+
+    @Test
+    void truncatedRangeFailsAndKeepsTarget() throws IOException {
+        final Path target = dir.resolve("a.bin");
+        Files.write(target, new byte[]{7});
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> downloader(true).download("a", content.length, "etag-1", target));
+        assertTrue(e.getCause() instanceof EOFException);
+        assertArrayEquals(new byte[]{7}, Files.readAllBytes(target));
+        assertFalse(Files.exists(dir.resolve("a.bin.download")));
+    }
+
+    @Test
+    void sourceErrorFailsDownload() {
+        final Path target = dir.resolve("a.bin");
+        final RangeDownloader downloader = new RangeDownloader((path, start, end, etag) -> {
+            throw new IOException("PreconditionFailed");
+        }, executor, PART_SIZE, 2);
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> downloader.download("a", content.length, "etag-1", target));
+        assertEquals("PreconditionFailed", e.getCause().getMessage());
+        assertFalse(Files.exists(target));
+        assertFalse(Files.exists(dir.resolve("a.bin.download")));
+    }
+
+    /**
+     * @param truncate 最后一个分段少返回一个字节
+     */
+    private RangeDownloader downloader(boolean truncate) {
+        return new RangeDownloader((path, start, end, etag) -> {
+            ranges.add(start + "-" + end + "@" + etag);
+            final int length = (int) (end - start + 1) - (truncate && end == content.length - 1 ? 1 : 0);
+            return new ByteArrayInputStream(content, (int) start, length);
+        }, executor, PART_SIZE, 2);
+    }
+}
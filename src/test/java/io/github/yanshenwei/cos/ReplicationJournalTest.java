@@ -0,0 +1,119 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 复制日志: 按已复制位置续读, 重启后从保存的位置继续, 全部复制后清空; 复制线程按日志同步从云存储
+ * @Date 2026/10/18 - 22:10
+ **********************************/
+
+class ReplicationJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readsInBatchesFromPosition() throws Exception {
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            journal.append(Replicator.PUT, "a/1 空格.txt", 1);
+            journal.append(Replicator.PUT, "a/2", 2);
+            journal.append(Replicator.DELETE, "a/3", 3);
+            final ReplicationJournal.Batch first = journal.read(0, 2);
+            assertEquals(2, first.entries.size());
+            assertEquals("a/1 空格.txt", first.entries.get(0).path);
+            assertEquals(Replicator.PUT, first.entries.get(0).op);
+            final ReplicationJournal.Batch second = journal.read(first.next, 2);
+            assertEquals(1, second.entries.size());
+            assertEquals(Replicator.DELETE, second.entries.get(0).op);
+            assertEquals(journal.size(), second.next);
+            assertEquals(0, journal.read(second.next, 2).entries.size());
+            assertEquals(1, journal.count(first.next));
+        }
+    }
+
+    @Test
+    void reopenContinuesFromSavedPosition() throws Exception {
+        long position;
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            journal.append(Replicator.PUT, "a", 1);
+            journal.append(Replicator.PUT, "b", 2);
+            position = journal.read(0, 1).next;
+            journal.savePosition(position);
+        }
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            assertEquals(position, journal.loadPosition());
+            final ReplicationJournal.Batch batch = journal.read(journal.loadPosition(), 10);
+            assertEquals(1, batch.entries.size());
+            assertEquals("b", batch.entries.get(0).path);
+        }
+    }
+
+    @Test
+    void recoverTruncatesPartialLine() throws Exception {
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            journal.append(Replicator.PUT, "a", 1);
+        }
+        final long complete = Files.size(dir.resolve("replication.journal"));
+        Files.write(dir.resolve("replication.journal"), "2 PUT b-unfinish".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            assertEquals(complete, journal.size());
+            journal.append(Replicator.PUT, "c", 3);
+            final ReplicationJournal.Batch batch = journal.read(0, 10);
+            assertEquals(2, batch.entries.size());
+            assertEquals("c", batch.entries.get(1).path);
+        }
+    }
+
+    @Test
+    void compactOnlyWhenFullyReplicated() throws Exception {
+        try (ReplicationJournal journal = new ReplicationJournal(dir)) {
+            journal.append(Replicator.PUT, "a", 1);
+            journal.append(Replicator.PUT, "b", 2);
+            final long middle = journal.read(0, 1).next;
+            assertFalse(journal.compact(middle));
+            assertFalse(journal.compact(0));
+            journal.savePosition(journal.size());
+            assertTrue(journal.compact(journal.size()));
+            assertEquals(0, journal.size());
+            assertEquals(0, journal.loadPosition());
+        }
+    }
+
+    @Test
+    void replicatorAppliesJournalToSecondary() throws Exception {
+        final FakeStorage primary = new FakeStorage();
+        final FakeStorage secondary = new FakeStorage();
+        primary.put("a", new byte[]{1, 2, 3});
+        secondary.put("b", new byte[]{4});
+        final Replicator replicator = new Replicator(dir, ReadRouter.OSS, primary, secondary,
+                Executors.newFixedThreadPool(2), 10, 0, 1);
+        replicator.start();
+        try {
+            assertTrue(replicator.append(Replicator.PUT, "a"));
+            assertTrue(replicator.append(Replicator.DELETE, "b"));
+            final long deadline = System.currentTimeMillis() + 10000;
+            while (replicator.stats().getPending() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, replicator.stats().getPending());
+            assertArrayEquals(new byte[]{1, 2, 3}, secondary.content("a"));
+            assertFalse(secondary.paths().contains("b"));
+        } finally {
+            replicator.stop();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 流分流: 进度差在内存上限内不落盘, 超出后写入临时文件, 分支关闭后不再拖住其他分支
+ * @Date 2026/10/18 - 21:50
+ **********************************/
+
+class StreamTeeTest {
+
+    private static final int KB = 1024;
+
+    @TempDir
+    Path spillDir;
+
+    @Test
+    void interleavedBranchesStayInMemory() throws IOException {
+        final byte[] content = MultipartUploaderTest.bytes(1024 * KB);
+        try (StreamTee tee = new StreamTee(new ByteArrayInputStream(content), 2, 256 * KB, spillDir.toString());
+             InputStream first = tee.branch(0);
+             InputStream second = tee.branch(1)) {
+            final ByteArrayOutputStream a = new ByteArrayOutputStream();
+            final ByteArrayOutputStream b = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[16 * KB];
+            int n;
+            while ((n = first.read(buffer)) > 0) {
+                a.write(buffer, 0, n);
+                b.write(buffer, 0, second.read(buffer, 0, n));
+            }
+            drain(second, b);
+            assertEquals(0, spillFiles());
+            assertArrayEquals(content, a.toByteArray());
+            assertArrayEquals(content, b.toByteArray());
+        }
+    }
+
+    @Test
+    void laggingBranchReadsFromSpillFile() throws IOException {
+        final byte[] content = MultipartUploaderTest.bytes(1024 * KB);
+        final StreamTee tee = new StreamTee(new ByteArrayInputStream(content), 2, 128 * KB, spillDir.toString());
+        final InputStream first = tee.branch(0);
+        final InputStream second = tee.branch(1);
+        assertArrayEquals(content, readAll(first));
+        assertEquals(1, spillFiles());
+        assertArrayEquals(content, readAll(second));
+        first.close();
+        second.close();
+        assertEquals(0, spillFiles());
+    }
+
+    @Test
+    void closedBranchDoesNotForceSpill() throws IOException {
+        final byte[] content = MultipartUploaderTest.bytes(1024 * KB);
+        try (StreamTee tee = new StreamTee(new ByteArrayInputStream(content), 2, 128 * KB, spillDir.toString())) {
+            final InputStream second = tee.branch(1);
+            second.close();
+            assertThrows(IOException.class, second::read);
+            assertArrayEquals(content, readAll(tee.branch(0)));
+            assertEquals(0, spillFiles());
+        }
+    }
+
+    @Test
+    void sourceClosedAfterAllBranchesWhenRequested() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final InputStream source = new ByteArrayInputStream(new byte[10]) {
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        final StreamTee tee = new StreamTee(source, 2, KB, spillDir.toString(), true);
+        tee.branch(0).close();
+        assertFalse(closed.get());
+        tee.branch(1).close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void sourceFailureReachesEveryBranch() {
+        final InputStream source = new InputStream() {
+
+            @Override
+            public int read() throws IOException {
+                throw new IOException("源流读取失败");
+            }
+        };
+        try (StreamTee tee = new StreamTee(source, 2, KB, spillDir.toString())) {
+            assertThrows(IOException.class, () -> tee.branch(0).read());
+            assertThrows(IOException.class, () -> tee.branch(1).read());
+        }
+    }
+
+    private long spillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDir)) {
+            return files.count();
+        }
+    }
+
+    static byte[] readAll(InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        drain(inputStream, output);
+        return output.toByteArray();
+    }
+
+    private static void drain(InputStream inputStream, ByteArrayOutputStream output) throws IOException {
+        final byte[] buffer = new byte[8 * KB];
+        int n;
+        while ((n = inputStream.read(buffer)) >= 0) {
+            output.write(buffer, 0, n);
+        }
+    }
+}
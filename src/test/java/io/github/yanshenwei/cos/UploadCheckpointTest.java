@@ -0,0 +1,132 @@
+package io.github.yanshenwei.cos;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**********************************
+ * @Author YSW
+ * @Description 断点续传: 失败后保留断点记录, 再次上传只补传缺少的分片; uploadId 失效时重新上传
+ * @Date 2026/10/18 - 21:40
+ **********************************/
+
+class UploadCheckpointTest {
+
+    private static final int PART_SIZE = 1024;
+
+    @TempDir
+    Path dir;
+
+    private ExecutorService executor;
+
+    private FakePartTarget target;
+
+    private MultipartUploader uploader;
+
+    private Path checkpointDir;
+
+    @BeforeEach
+    void setUp() {
+        // 单线程按分片顺序上传, 失败前完成的分片确定
+        executor = Executors.newSingleThreadExecutor();
+        target = new FakePartTarget();
+        uploader = new MultipartUploader(target, executor, PART_SIZE, 1);
+        checkpointDir = dir.resolve("checkpoint");
+        uploader.enableCheckpoint(checkpointDir.toString(), 60 * 60 * 1000L, "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void resumeUploadsOnlyMissingParts() throws Exception {
+        final byte[] content = MultipartUploaderTest.bytes(PART_SIZE * 5);
+        final File file = MultipartUploaderTest.write(dir, content);
+        target.failPart(4);
+        assertThrows(ExecutionException.class, () -> uploader.uploadFile("a", file, null, null));
+        assertTrue(target.aborted.isEmpty());
+        final UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointPath(file));
+        assertNotNull(checkpoint);
+        assertEquals("upload-1", checkpoint.getUploadId());
+        assertEquals(3, checkpoint.getParts().size());
+
+        target.clearFailures();
+        target.uploadedParts.clear();
+        assertTrue(uploader.uploadFile("a", file, null, null));
+        assertEquals(1, target.initiates.get());
+        assertEquals(2, target.uploadedParts.size());
+        assertTrue(target.uploadedParts.containsAll(Arrays.asList(4, 5)));
+        assertArrayEquals(content, target.objects.get("a"));
+        assertFalse(Files.exists(checkpointPath(file)));
+    }
+
+    @Test
+    void changedSourceStartsNewUpload() throws Exception {
+        final File file = MultipartUploaderTest.write(dir, MultipartUploaderTest.bytes(PART_SIZE * 3));
+        target.failPart(3);
+        assertThrows(ExecutionException.class, () -> uploader.uploadFile("a", file, null, null));
+        target.clearFailures();
+        final byte[] content = MultipartUploaderTest.bytes(PART_SIZE * 4);
+        Files.write(file.toPath(), content);
+        assertTrue(uploader.uploadFile("a", file, null, null));
+        assertEquals(2, target.initiates.get());
+        assertTrue(target.aborted.contains("upload-1"));
+        assertArrayEquals(content, target.objects.get("a"));
+    }
+
+    @Test
+    void missingUploadIdDeletesCheckpointAndRestarts() throws Exception {
+        final byte[] content = MultipartUploaderTest.bytes(PART_SIZE * 3);
+        final File file = MultipartUploaderTest.write(dir, content);
+        target.failPart(3);
+        assertThrows(ExecutionException.class, () -> uploader.uploadFile("a", file, null, null));
+        target.clearFailures();
+        // 服务端已清理该分片上传
+        target.missingUploads.add("upload-1");
+        assertTrue(uploader.uploadFile("a", file, null, null));
+        assertEquals(2, target.initiates.get());
+        assertArrayEquals(content, target.objects.get("a"));
+        assertFalse(Files.exists(checkpointPath(file)));
+    }
+
+    @Test
+    void loadIgnoresTruncatedLastLine() throws Exception {
+        final File file = MultipartUploaderTest.write(dir, new byte[10]);
+        final Path path = checkpointDir.resolve("test-x.checkpoint");
+        final UploadCheckpoint created = UploadCheckpoint.create(path, "id", "a", file, PART_SIZE);
+        created.append(1, "etag-1");
+        Files.write(path, "part.2=eta".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        final UploadCheckpoint loaded = UploadCheckpoint.load(path);
+        assertNotNull(loaded);
+        assertEquals(1, loaded.getParts().size());
+        assertEquals("etag-1", loaded.getParts().get(1));
+        assertTrue(loaded.matches("a", file, PART_SIZE));
+        assertFalse(loaded.matches("a", file, PART_SIZE * 2));
+        assertNull(UploadCheckpoint.load(checkpointDir.resolve("none.checkpoint")));
+    }
+
+    private Path checkpointPath(File file) {
+        return UploadCheckpoint.locate(checkpointDir, "test", "a", file);
+    }
+}